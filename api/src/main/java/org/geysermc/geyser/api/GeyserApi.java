@@ -35,6 +35,7 @@ import org.geysermc.geyser.api.event.EventBus;
 import org.geysermc.geyser.api.event.EventRegistrar;
 import org.geysermc.geyser.api.extension.ExtensionManager;
 import org.geysermc.geyser.api.network.BedrockListener;
+import org.geysermc.geyser.api.network.PacketMetrics;
 import org.geysermc.geyser.api.network.RemoteServer;
 import org.geysermc.geyser.api.util.MinecraftVersion;
 import org.geysermc.geyser.api.util.PlatformType;
@@ -160,6 +161,15 @@ public interface GeyserApi extends GeyserApiBase {
     @NonNull
     CommandSource consoleCommandSource();
 
+    /**
+     * Gets the {@link PacketMetrics} of every connection combined,
+     * including connections that have since been closed.
+     *
+     * @return the packet metrics of all connections
+     */
+    @NonNull
+    PacketMetrics packetMetrics();
+
     /**
      * Gets the current {@link GeyserApiBase} instance.
      *
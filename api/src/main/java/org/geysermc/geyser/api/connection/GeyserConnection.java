@@ -35,6 +35,7 @@ import org.geysermc.geyser.api.command.CommandSource;
 import org.geysermc.geyser.api.entity.EntityData;
 import org.geysermc.geyser.api.entity.type.GeyserEntity;
 import org.geysermc.geyser.api.entity.type.player.GeyserPlayerEntity;
+import org.geysermc.geyser.api.network.PacketMetrics;
 
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -60,6 +61,14 @@ public interface GeyserConnection extends Connection, CommandSource {
      */
     @NonNull EntityData entities();
 
+    /**
+     * Exposes the {@link PacketMetrics} for this connection.
+     * It allows you to see which packets take the longest to translate for this player.
+     *
+     * @return the PacketMetrics for this connection.
+     */
+    @NonNull PacketMetrics packetMetrics();
+
     /**
      * @param javaId the Java entity ID to look up.
      * @return a {@link GeyserEntity} if present in this connection's entity tracker.
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.api.network;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collection;
+
+/**
+ * Measures the time Geyser spends translating each type of packet, and the traffic on the Bedrock and Java
+ * connections, so that exporters can find out what a server is spending its time on.
+ * <p>
+ * Nothing is recorded unless {@code packet-metrics} is enabled in the config.
+ */
+public interface PacketMetrics {
+
+    /**
+     * Gets if packets are currently being measured.
+     *
+     * @return if packet metrics are enabled in the config
+     */
+    boolean enabled();
+
+    /**
+     * Gets the statistics of each type of packet received from Bedrock clients.
+     *
+     * @return the statistics of translated Bedrock packets
+     */
+    @NonNull
+    Collection<? extends PacketStatistics> bedrockPackets();
+
+    /**
+     * Gets the statistics of each type of packet received from the Java server.
+     *
+     * @return the statistics of translated Java packets
+     */
+    @NonNull
+    Collection<? extends PacketStatistics> javaPackets();
+
+    /**
+     * Gets the number of bytes received from Bedrock clients, as they were sent over the network.
+     *
+     * @return the bytes received from Bedrock clients
+     */
+    long bedrockBytesReceived();
+
+    /**
+     * Gets the number of bytes sent to Bedrock clients, as they were sent over the network.
+     *
+     * @return the bytes sent to Bedrock clients
+     */
+    long bedrockBytesSent();
+
+    /**
+     * Gets the number of bytes received from the Java server, as they were sent over the network.
+     *
+     * @return the bytes received from the Java server
+     */
+    long javaBytesReceived();
+
+    /**
+     * Gets the number of bytes sent to the Java server, as they were sent over the network.
+     *
+     * @return the bytes sent to the Java server
+     */
+    long javaBytesSent();
+
+    /**
+     * Gets the number of tasks, such as packets to translate, that are waiting to be run on the player threads.
+     * This is measured when called, even if packet metrics are disabled.
+     * <p>
+     * Several players share one thread, so for a single connection this covers everything queued on its
+     * thread, including the tasks of other players on it.
+     *
+     * @return the number of tasks waiting to be run
+     */
+    int pendingTasks();
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.api.network;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * How long Geyser has spent translating one type of packet.
+ */
+public interface PacketStatistics {
+
+    /**
+     * Gets the simple class name of the packet, such as
+     * {@code ClientboundLevelChunkWithLightPacket} or {@code MovePlayerPacket}.
+     *
+     * @return the name of the packet
+     */
+    @NonNull
+    String packetName();
+
+    /**
+     * Gets how many of these packets have been translated.
+     *
+     * @return the number of packets translated
+     */
+    long count();
+
+    /**
+     * Gets the total time spent translating these packets.
+     *
+     * @return the total translation time, in nanoseconds
+     */
+    long totalNanos();
+
+    /**
+     * Gets the longest time spent translating one of these packets.
+     *
+     * @return the longest translation time, in nanoseconds
+     */
+    long maxNanos();
+
+    /**
+     * Gets the translation time that the given percentage of these packets were translated within. The result
+     * is accurate to within an eighth of its value.
+     * <p>
+     * Only the statistics of {@link org.geysermc.geyser.api.GeyserApi#packetMetrics()} keep the distribution of
+     * translation times; the statistics of a single connection return -1.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the translation time at the percentile, in nanoseconds, or -1 if it is not known
+     */
+    long percentileNanos(double percentile);
+}
@@ -0,0 +1,18 @@
+plugins {
+    alias(libs.plugins.jmh)
+}
+
+// Benchmarks load the block and item mappings from core's resources, so the mappings submodule must be checked out
+dependencies {
+    jmh(projects.core)
+    jmh(libs.mockito)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    // Run a subset of the suites with e.g. -Pbenchmarks=ChunkTranslation
+    providers.gradleProperty("benchmarks").orNull?.let { includes.add(it) }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import lombok.Getter;
+import org.geysermc.geyser.GeyserBootstrap;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.api.util.PlatformType;
+import org.geysermc.geyser.command.GeyserCommandManager;
+import org.geysermc.geyser.configuration.GeyserConfiguration;
+import org.geysermc.geyser.dump.BootstrapDumpInfo;
+import org.geysermc.geyser.entity.EntityDefinitions;
+import org.geysermc.geyser.ping.IGeyserPingPassthrough;
+import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.registry.Registries;
+import org.geysermc.geyser.session.cache.RegistryCache;
+import org.geysermc.geyser.text.GeyserLocale;
+import org.geysermc.geyser.translator.text.MessageTranslator;
+import org.geysermc.geyser.util.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * A bootstrap that loads Geyser and its registries the same way a platform would, but never binds the Bedrock
+ * listener, so translators can be driven directly from a {@link BenchmarkSession}.
+ */
+@Getter
+public final class BenchmarkBootstrap implements GeyserBootstrap {
+    private static BenchmarkBootstrap INSTANCE;
+
+    private final BenchmarkLogger geyserLogger = new BenchmarkLogger();
+    private final Path configFolder;
+    private BenchmarkConfiguration geyserConfig;
+    private GeyserCommandManager geyserCommandManager;
+
+    private BenchmarkBootstrap() throws IOException {
+        this.configFolder = Files.createTempDirectory("geyser-benchmark");
+    }
+
+    /**
+     * Loads Geyser on the first call; every benchmark in the fork shares the same instance.
+     */
+    public static synchronized GeyserImpl geyser() {
+        if (INSTANCE == null) {
+            try {
+                INSTANCE = new BenchmarkBootstrap();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            INSTANCE.onGeyserInitialize();
+        }
+        return GeyserImpl.getInstance();
+    }
+
+    @Override
+    public void onGeyserInitialize() {
+        GeyserLocale.init(this);
+
+        try {
+            File configFile = FileUtils.fileOrCopiedFromResource(configFolder.resolve("config.yml").toFile(), "config.yml",
+                    (x) -> x.replaceAll("generateduuid", UUID.randomUUID().toString()), this);
+            this.geyserConfig = FileUtils.loadConfig(configFile, BenchmarkConfiguration.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        GeyserImpl geyser = GeyserImpl.load(PlatformType.STANDALONE, this);
+        this.geyserCommandManager = new GeyserCommandManager(geyser);
+
+        // Everything GeyserImpl#initialize sets up before the network is started
+        Registries.init();
+        BlockRegistries.init();
+
+        RegistryCache.init();
+
+        EntityDefinitions.init();
+        MessageTranslator.init();
+    }
+
+    @Override
+    public void onGeyserEnable() {
+    }
+
+    @Override
+    public void onGeyserDisable() {
+    }
+
+    @Override
+    public void onGeyserShutdown() {
+    }
+
+    @Override
+    public GeyserConfiguration getGeyserConfig() {
+        return geyserConfig;
+    }
+
+    @Override
+    public IGeyserPingPassthrough getGeyserPingPassthrough() {
+        return null;
+    }
+
+    @Override
+    public BootstrapDumpInfo getDumpInfo() {
+        return new BootstrapDumpInfo();
+    }
+
+    @Override
+    public String getServerBindAddress() {
+        return geyserConfig.getBedrock().address();
+    }
+
+    @Override
+    public int getServerPort() {
+        return geyserConfig.getBedrock().port();
+    }
+
+    @Override
+    public boolean testFloodgatePluginPresent() {
+        return false;
+    }
+}
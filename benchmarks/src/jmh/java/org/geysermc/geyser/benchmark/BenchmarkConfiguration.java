@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.geysermc.geyser.configuration.GeyserJacksonConfiguration;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class BenchmarkConfiguration extends GeyserJacksonConfiguration {
+    @Override
+    public Path getFloodgateKeyPath() {
+        return Paths.get(getFloodgateKeyFile());
+    }
+
+    @Override
+    public int getChunkTranslationThreads() {
+        // Chunks must be translated on the benchmark thread so that the translation is what gets measured
+        return 0;
+    }
+}
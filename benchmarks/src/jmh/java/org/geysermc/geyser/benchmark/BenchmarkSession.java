@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import io.netty.channel.DefaultEventLoop;
+import org.cloudburstmc.protocol.bedrock.BedrockServerSession;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.network.GameProtocol;
+import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.registry.Registries;
+import org.geysermc.geyser.session.DownstreamSession;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.mcprotocollib.protocol.MinecraftProtocol;
+import org.geysermc.mcprotocollib.protocol.codec.MinecraftCodecHelper;
+import org.mockito.Answers;
+import org.mockito.Mockito;
+
+/**
+ * A session for the latest Bedrock version that is not connected to either edition. The Bedrock peer is never
+ * connected, so anything sent upstream is released instead of being written.
+ */
+public class BenchmarkSession extends GeyserSession {
+    private final DownstreamSession downstream;
+
+    public BenchmarkSession(GeyserImpl geyser) {
+        super(geyser, mockBedrockSession(), new DefaultEventLoop());
+
+        int protocolVersion = GameProtocol.DEFAULT_BEDROCK_CODEC.getProtocolVersion();
+        setBlockMappings(BlockRegistries.BLOCKS.forVersion(protocolVersion));
+        setItemMappings(Registries.ITEMS.forVersion(protocolVersion));
+
+        // The overworld, as sent in the login packet of a vanilla server
+        getChunkCache().setMinY(-64);
+        getChunkCache().setHeightY(384);
+        getRegistryCache().load(JavaPacketFixtures.registryData("worldgen/biome"));
+
+        MinecraftCodecHelper codecHelper = (MinecraftCodecHelper) new MinecraftProtocol().createHelper();
+        this.downstream = new DownstreamSession(null) {
+            @Override
+            public MinecraftCodecHelper getCodecHelper() {
+                return codecHelper;
+            }
+        };
+    }
+
+    private static BedrockServerSession mockBedrockSession() {
+        BedrockServerSession session = Mockito.mock(BedrockServerSession.class, Answers.RETURNS_DEEP_STUBS);
+        Mockito.when(session.getCodec()).thenReturn(GameProtocol.DEFAULT_BEDROCK_CODEC);
+        return session;
+    }
+
+    @Override
+    public DownstreamSession getDownstream() {
+        return downstream;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.geysermc.geyser.level.block.Blocks;
+import org.geysermc.geyser.level.chunk.BlockStorage;
+import org.geysermc.geyser.registry.type.BlockMappings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BlockStorageBenchmark {
+    /**
+     * How many different blocks are in the section. This decides the palette's bits per block.
+     */
+    @Param({"1", "16", "256"})
+    public int paletteSize;
+
+    private BlockStorage blockStorage;
+    private ByteBuf buffer;
+
+    @Setup
+    public void setup() {
+        BenchmarkSession session = new BenchmarkSession(BenchmarkBootstrap.geyser());
+        BlockMappings mappings = session.getBlockMappings();
+        int[] palette = new int[paletteSize];
+        for (int i = 0; i < paletteSize; i++) {
+            // Java state IDs are dense, so the first IDs after air are all valid states
+            palette[i] = mappings.getBedrockBlockId(Blocks.AIR.defaultBlockState().javaId() + 1 + i);
+        }
+        Random random = new Random(0);
+        blockStorage = new BlockStorage(mappings.getBedrockAir().getRuntimeId());
+        for (int i = 0; i < BlockStorage.SIZE; i++) {
+            blockStorage.setFullBlock(i, palette[random.nextInt(paletteSize)]);
+        }
+        buffer = Unpooled.buffer(blockStorage.estimateNetworkSize());
+    }
+
+    @TearDown
+    public void tearDown() {
+        buffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf writeBlockStorage() {
+        buffer.clear();
+        blockStorage.writeToNetwork(buffer);
+        return buffer;
+    }
+}
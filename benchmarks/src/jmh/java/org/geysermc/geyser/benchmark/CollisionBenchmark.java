@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import org.cloudburstmc.math.vector.Vector3d;
+import org.geysermc.geyser.level.WorldManager;
+import org.geysermc.geyser.level.block.Blocks;
+import org.geysermc.geyser.level.physics.BoundingBox;
+import org.geysermc.geyser.level.physics.CollisionManager;
+import org.geysermc.geyser.translator.protocol.java.level.JavaLevelChunkWithLightTranslator;
+import org.geysermc.mcprotocollib.protocol.codec.MinecraftCodecHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollisionBenchmark {
+    /**
+     * Movements a player sends while walking around: falling onto the ground, walking along it, walking into the
+     * tree trunk in front of them and jumping.
+     */
+    private static final Vector3d[] MOVEMENTS = {
+            Vector3d.from(0, -0.0784, 0),
+            Vector3d.from(0.2158, -0.0784, 0.0812),
+            Vector3d.from(-0.1243, -0.0784, 0.2311),
+            Vector3d.from(0.4, -0.0784, 0.4),
+            Vector3d.from(0.1, 0.42, -0.1)
+    };
+
+    private CollisionManager collisionManager;
+    private BoundingBox boundingBox;
+    private int movementIndex;
+
+    @Setup
+    public void setup() {
+        BenchmarkSession session = new BenchmarkSession(BenchmarkBootstrap.geyser());
+        MinecraftCodecHelper helper = session.getDownstream().getCodecHelper();
+        JavaLevelChunkWithLightTranslator translator = new JavaLevelChunkWithLightTranslator();
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) {
+                translator.translate(session, JavaPacketFixtures.overworldChunk(helper, x, z, 0));
+            }
+        }
+
+        // Stand on the surface, next to the tree that grows at the center of each 8x8 area
+        WorldManager worldManager = session.getGeyser().getWorldManager();
+        int air = Blocks.AIR.defaultBlockState().javaId();
+        int y = 319;
+        while (y > -64 && worldManager.getBlockAt(session, 3, y, 4) == air) {
+            y--;
+        }
+
+        collisionManager = session.getCollisionManager();
+        boundingBox = collisionManager.getPlayerBoundingBox();
+        collisionManager.updatePlayerBoundingBox(Vector3d.from(3.5, y + 1, 4.5));
+    }
+
+    @Benchmark
+    public Vector3d correctMovement() {
+        Vector3d movement = MOVEMENTS[movementIndex];
+        movementIndex = (movementIndex + 1) % MOVEMENTS.length;
+        return collisionManager.correctMovement(movement, boundingBox, true, 0.6, true);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
+import org.geysermc.geyser.item.Items;
+import org.geysermc.geyser.translator.item.ItemTranslator;
+import org.geysermc.mcprotocollib.protocol.data.game.item.ItemStack;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponentType;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItemTranslationBenchmark {
+    private BenchmarkSession session;
+    private ItemStack plainItem;
+    private ItemStack namedItem;
+
+    @Setup
+    public void setup() {
+        session = new BenchmarkSession(BenchmarkBootstrap.geyser());
+
+        plainItem = new ItemStack(Items.STONE.javaId(), 64, null);
+
+        // An item like the ones shop and menu plugins fill their inventories with
+        DataComponents components = new DataComponents(new HashMap<>());
+        components.put(DataComponentType.CUSTOM_NAME, Component.text("Excalibur", NamedTextColor.GOLD)
+                .decoration(TextDecoration.ITALIC, false));
+        components.put(DataComponentType.LORE, List.of(
+                Component.text("Forged in the depths", NamedTextColor.GRAY),
+                Component.text("Price: ", NamedTextColor.GRAY).append(Component.text("1,000 coins", NamedTextColor.YELLOW)),
+                Component.text("Click to buy!", NamedTextColor.GREEN, TextDecoration.BOLD)));
+        components.put(DataComponentType.DAMAGE, 120);
+        namedItem = new ItemStack(Items.DIAMOND_SWORD.javaId(), 1, components);
+    }
+
+    @Benchmark
+    public ItemData translatePlainItem() {
+        return ItemTranslator.translateToBedrock(session, plainItem);
+    }
+
+    @Benchmark
+    public ItemData translateNamedItem() {
+        return ItemTranslator.translateToBedrock(session, namedItem);
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.cloudburstmc.nbt.NbtMap;
+import org.cloudburstmc.nbt.NbtType;
+import org.geysermc.geyser.level.block.Blocks;
+import org.geysermc.geyser.level.block.property.Properties;
+import org.geysermc.geyser.util.MinecraftKey;
+import org.geysermc.mcprotocollib.protocol.MinecraftProtocol;
+import org.geysermc.mcprotocollib.protocol.codec.MinecraftCodecHelper;
+import org.geysermc.mcprotocollib.protocol.data.game.RegistryEntry;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.ChunkSection;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
+import org.geysermc.mcprotocollib.protocol.data.game.command.CommandNode;
+import org.geysermc.mcprotocollib.protocol.data.game.command.CommandParser;
+import org.geysermc.mcprotocollib.protocol.data.game.command.CommandType;
+import org.geysermc.mcprotocollib.protocol.data.game.level.LightUpdateData;
+import org.geysermc.mcprotocollib.protocol.data.game.level.block.BlockEntityInfo;
+import org.geysermc.mcprotocollib.protocol.packet.configuration.clientbound.ClientboundRegistryDataPacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.ClientboundCommandsPacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundLevelChunkWithLightPacket;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Random;
+
+/**
+ * Java packets for the benchmarks to translate. The packets are generated from a fixed seed rather than captured
+ * from a server, so every run and every Geyser build translates exactly the same data.
+ */
+public final class JavaPacketFixtures {
+    /**
+     * Argument types with no properties, that don't depend on session state that a benchmark session doesn't have.
+     */
+    private static final CommandParser[] COMMAND_PARSERS = {
+            CommandParser.INTEGER, CommandParser.ENTITY, CommandParser.BLOCK_POS, CommandParser.VEC3, CommandParser.MESSAGE,
+            CommandParser.BOOL, CommandParser.BLOCK_STATE, CommandParser.ITEM_STACK, CommandParser.COLOR
+    };
+
+    private JavaPacketFixtures() {
+    }
+
+    /**
+     * Registry data as a vanilla server sends it: only the entry names, with the contents taken from the client's
+     * built-in data pack.
+     */
+    public static ClientboundRegistryDataPacket registryData(String registry) {
+        String key = MinecraftKey.key(registry).asString();
+        List<NbtMap> values = MinecraftProtocol.loadNetworkCodec().getCompound(key).getList("value", NbtType.COMPOUND);
+        List<RegistryEntry> entries = new ArrayList<>(values.size());
+        for (NbtMap value : values) {
+            entries.add(new RegistryEntry(MinecraftKey.key(value.getString("name")), null));
+        }
+        return new ClientboundRegistryDataPacket(MinecraftKey.key(registry), entries);
+    }
+
+    /**
+     * An overworld chunk: deepslate and stone with scattered ores, dirt and grass up to a rolling surface around
+     * y=64, a lake below sea level, and a few trees and stairs above it.
+     */
+    public static ClientboundLevelChunkWithLightPacket overworldChunk(MinecraftCodecHelper helper, int chunkX, int chunkZ, long seed) {
+        Random random = new Random(seed ^ ((long) chunkX << 32 | chunkZ & 0xFFFFFFFFL));
+
+        int[] surface = new int[256];
+        for (int i = 0; i < surface.length; i++) {
+            int x = i & 15;
+            int z = i >> 4;
+            surface[i] = 60 + (int) (4 * Math.sin((chunkX * 16 + x) / 7.0) + 3 * Math.cos((chunkZ * 16 + z) / 5.0));
+        }
+
+        int air = Blocks.AIR.defaultBlockState().javaId();
+        int bedrock = Blocks.BEDROCK.defaultBlockState().javaId();
+        int deepslate = Blocks.DEEPSLATE.defaultBlockState().javaId();
+        int stone = Blocks.STONE.defaultBlockState().javaId();
+        int dirt = Blocks.DIRT.defaultBlockState().javaId();
+        int grass = Blocks.GRASS_BLOCK.defaultBlockState().javaId();
+        int water = Blocks.WATER.defaultBlockState().javaId();
+        int log = Blocks.OAK_LOG.defaultBlockState().javaId();
+        int leaves = Blocks.OAK_LEAVES.defaultBlockState().javaId();
+        int stairs = Blocks.OAK_STAIRS.defaultBlockState().withValue(Properties.WATERLOGGED, true).javaId();
+        int[] ores = {
+                Blocks.COAL_ORE.defaultBlockState().javaId(), Blocks.IRON_ORE.defaultBlockState().javaId(),
+                Blocks.GOLD_ORE.defaultBlockState().javaId(), Blocks.DIAMOND_ORE.defaultBlockState().javaId(),
+                Blocks.GRAVEL.defaultBlockState().javaId(), Blocks.ANDESITE.defaultBlockState().javaId()
+        };
+
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            for (int sectionY = 0; sectionY < 24; sectionY++) {
+                DataPalette blocks = DataPalette.createForChunk();
+                DataPalette biomes = DataPalette.createForBiome();
+                int blockCount = 0;
+                for (int y = 0; y < 16; y++) {
+                    int worldY = (sectionY << 4) + y - 64;
+                    for (int z = 0; z < 16; z++) {
+                        for (int x = 0; x < 16; x++) {
+                            int height = surface[z << 4 | x];
+                            int state;
+                            if (worldY == -64) {
+                                state = bedrock;
+                            } else if (worldY < height - 4) {
+                                state = random.nextInt(24) == 0 ? ores[random.nextInt(ores.length)] : (worldY < 0 ? deepslate : stone);
+                            } else if (worldY < height) {
+                                state = dirt;
+                            } else if (worldY == height) {
+                                state = height < 62 ? dirt : grass;
+                            } else if (worldY <= 62 && height < 62) {
+                                state = (x + z) % 7 == 0 ? stairs : water;
+                            } else if (height >= 62 && (x & 7) == 4 && (z & 7) == 4 && worldY <= height + 5) {
+                                state = log;
+                            } else if (height >= 62 && worldY > height + 3 && worldY <= height + 6
+                                    && Math.abs((x & 7) - 4) + Math.abs((z & 7) - 4) <= 3) {
+                                state = leaves;
+                            } else {
+                                state = air;
+                            }
+
+                            if (state != air) {
+                                blocks.set(x, y, z, state);
+                                blockCount++;
+                            }
+                        }
+                    }
+                }
+                helper.writeChunkSection(buf, new ChunkSection(blockCount, blocks, biomes));
+            }
+
+            LightUpdateData lightData = new LightUpdateData(new BitSet(), new BitSet(), new BitSet(), new BitSet(), List.of(), List.of());
+            return new ClientboundLevelChunkWithLightPacket(chunkX, chunkZ, ByteBufUtil.getBytes(buf), NbtMap.EMPTY, new BlockEntityInfo[0], lightData);
+        } finally {
+            buf.release();
+        }
+    }
+
+    /**
+     * A command tree shaped like a modded server's: many literal commands with argument branches and nested
+     * sub-commands, with every fifth command also registered under an alias that redirects to it.
+     */
+    public static ClientboundCommandsPacket commands(int commandCount) {
+        List<CommandNode> nodes = new ArrayList<>();
+        nodes.add(null); // The root node is filled in once all of its children are known
+        List<Integer> rootChildren = new ArrayList<>();
+
+        for (int i = 0; i < commandCount; i++) {
+            CommandParser first = COMMAND_PARSERS[i % COMMAND_PARSERS.length];
+            CommandParser second = COMMAND_PARSERS[(i + 3) % COMMAND_PARSERS.length];
+
+            int value = add(nodes, argument("value", second, new int[0]));
+            int target = add(nodes, argument("target", first, new int[] {value}));
+            int set = add(nodes, literal("set", false, new int[] {value}, OptionalInt.empty()));
+            int reset = add(nodes, literal("reset", true, new int[0], OptionalInt.empty()));
+            int command = add(nodes, literal("command" + i, true, new int[] {target, set, reset}, OptionalInt.empty()));
+            rootChildren.add(command);
+
+            if (i % 5 == 0) {
+                rootChildren.add(add(nodes, literal("alias" + i, false, new int[0], OptionalInt.of(command))));
+            }
+        }
+
+        int[] children = rootChildren.stream().mapToInt(Integer::intValue).toArray();
+        nodes.set(0, new CommandNode(CommandType.ROOT, false, children, OptionalInt.empty(), null, null, null, null));
+        return new ClientboundCommandsPacket(nodes.toArray(new CommandNode[0]), 0);
+    }
+
+    private static int add(List<CommandNode> nodes, CommandNode node) {
+        nodes.add(node);
+        return nodes.size() - 1;
+    }
+
+    private static CommandNode literal(String name, boolean executable, int[] children, OptionalInt redirect) {
+        return new CommandNode(CommandType.LITERAL, executable, children, redirect, name, null, null, null);
+    }
+
+    private static CommandNode argument(String name, CommandParser parser, int[] children) {
+        return new CommandNode(CommandType.ARGUMENT, true, children, OptionalInt.empty(), name, parser, null, null);
+    }
+}
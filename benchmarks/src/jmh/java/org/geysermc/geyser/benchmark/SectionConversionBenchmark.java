@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import org.geysermc.geyser.level.chunk.BlockStorage;
+import org.geysermc.geyser.level.chunk.bitarray.BitArray;
+import org.geysermc.geyser.level.chunk.bitarray.BitArrayVersion;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts one Java chunk section from YZX to Bedrock's XZY order, the step of chunk translation that touches
+ * every block.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SectionConversionBenchmark {
+    /**
+     * How many different blocks are in the section. Java palettes use at least four bits per block, Bedrock
+     * palettes as few as fit.
+     */
+    @Param({"2", "16", "256"})
+    public int paletteSize;
+
+    private BitStorage javaData;
+    private BitArray bedrockData;
+
+    @Setup
+    public void setup() {
+        int bits = Integer.SIZE - Integer.numberOfLeadingZeros(paletteSize - 1);
+        javaData = new BitStorage(Math.max(4, bits), BlockStorage.SIZE);
+        Random random = new Random(0);
+        for (int i = 0; i < BlockStorage.SIZE; i++) {
+            javaData.set(i, random.nextInt(paletteSize));
+        }
+        // Sized the same way JavaLevelChunkWithLightTranslator sizes it
+        int bedrockBits = Integer.SIZE - Integer.numberOfLeadingZeros(paletteSize);
+        bedrockData = BitArrayVersion.forBitsCeil(bedrockBits).createArray(BlockStorage.SIZE);
+    }
+
+    @Benchmark
+    public BitArray setAllFromJava() {
+        bedrockData.setAllFromJava(javaData);
+        return bedrockData;
+    }
+}
@@ -32,6 +32,7 @@ import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntList;
+import org.geysermc.erosion.util.BlockPositionIterator;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.platform.spigot.GeyserSpigotPlugin;
 import org.geysermc.geyser.session.GeyserSession;
@@ -73,6 +74,14 @@ public class GeyserSpigotLegacyNativeWorldManager extends GeyserSpigotNativeWorl
         return oldToNewBlockId.getOrDefault(nativeBlockId, nativeBlockId);
     }
 
+    @Override
+    public void getBlocksAt(GeyserSession session, BlockPositionIterator iter, int[] blocks) {
+        super.getBlocksAt(session, iter, blocks);
+        for (int i = 0; i < iter.getMaxIterations(); i++) {
+            blocks[i] = oldToNewBlockId.getOrDefault(blocks[i], blocks[i]);
+        }
+    }
+
     @Override
     public boolean isLegacy() {
         return true;
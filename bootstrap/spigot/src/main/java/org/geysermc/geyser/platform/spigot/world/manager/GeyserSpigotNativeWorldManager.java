@@ -30,6 +30,7 @@ import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.erosion.util.BlockPositionIterator;
 import org.geysermc.geyser.adapters.WorldAdapter;
 import org.geysermc.geyser.adapters.paper.PaperAdapters;
 import org.geysermc.geyser.adapters.spigot.SpigotAdapters;
@@ -37,6 +38,8 @@ import org.geysermc.geyser.level.block.BlockStateValues;
 import org.geysermc.geyser.level.block.type.Block;
 import org.geysermc.geyser.session.GeyserSession;
 
+import java.util.Arrays;
+
 public class GeyserSpigotNativeWorldManager extends GeyserSpigotWorldManager {
     protected final WorldAdapter<World> adapter;
 
@@ -58,6 +61,19 @@ public class GeyserSpigotNativeWorldManager extends GeyserSpigotWorldManager {
         return adapter.getBlockAt(player.getWorld(), x, y, z);
     }
 
+    @Override
+    public void getBlocksAt(GeyserSession session, BlockPositionIterator iter, int[] blocks) {
+        Player player = Bukkit.getPlayer(session.getPlayerEntity().getUsername());
+        if (player == null) {
+            Arrays.fill(blocks, 0, iter.getMaxIterations(), Block.JAVA_AIR_ID);
+            return;
+        }
+        World world = player.getWorld();
+        for (; iter.hasNext(); iter.next()) {
+            blocks[iter.getIteration()] = adapter.getBlockAt(world, iter.getX(), iter.getY(), iter.getZ());
+        }
+    }
+
     @Nullable
     @Override
     public String[] getBiomeIdentifiers(boolean withTags) {
@@ -26,10 +26,13 @@
 package org.geysermc.geyser.platform.spigot.world.manager;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.DecoratedPot;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -38,6 +41,7 @@ import org.cloudburstmc.math.vector.Vector3i;
 import org.geysermc.erosion.bukkit.BukkitUtils;
 import org.geysermc.erosion.bukkit.PickBlockUtils;
 import org.geysermc.erosion.bukkit.SchedulerUtils;
+import org.geysermc.erosion.util.BlockPositionIterator;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.level.GameRule;
 import org.geysermc.geyser.level.WorldManager;
@@ -46,9 +50,13 @@ import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.mcprotocollib.protocol.data.game.entity.player.GameMode;
 import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
@@ -56,6 +64,7 @@ import java.util.function.Consumer;
  */
 public class GeyserSpigotWorldManager extends WorldManager {
     private final Plugin plugin;
+    private final Map<BlockData, Integer> blockDataToId = new ConcurrentHashMap<>();
 
     public GeyserSpigotWorldManager(Plugin plugin) {
         this.plugin = plugin;
@@ -79,11 +88,78 @@ public class GeyserSpigotWorldManager extends WorldManager {
     public int getBlockNetworkId(Block block) {
         if (SchedulerUtils.FOLIA && !Bukkit.isOwnedByCurrentRegion(block)) {
             // Terrible behavior, but this is basically what's always been happening behind the scenes anyway.
-            CompletableFuture<String> blockData = new CompletableFuture<>();
-            Bukkit.getRegionScheduler().execute(this.plugin, block.getLocation(), () -> blockData.complete(block.getBlockData().getAsString()));
-            return BlockRegistries.JAVA_IDENTIFIER_TO_ID.getOrDefault(blockData.join(), org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID);
+            CompletableFuture<BlockData> blockData = new CompletableFuture<>();
+            Bukkit.getRegionScheduler().execute(this.plugin, block.getLocation(), () -> blockData.complete(block.getBlockData()));
+            return getBlockNetworkId(blockData.join());
+        }
+        return getBlockNetworkId(block.getBlockData());
+    }
+
+    /**
+     * Maps Bukkit block data to its Java block state ID. Block data equality is backed by the
+     * underlying server block state, so the string form is only built once per state.
+     */
+    public int getBlockNetworkId(BlockData blockData) {
+        Integer id = blockDataToId.get(blockData);
+        if (id == null) {
+            id = BlockRegistries.JAVA_IDENTIFIER_TO_ID.getOrDefault(blockData.getAsString(), org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID);
+            blockDataToId.put(blockData, id);
+        }
+        return id;
+    }
+
+    @Override
+    public void getBlocksAt(GeyserSession session, BlockPositionIterator iter, int[] blocks) {
+        Arrays.fill(blocks, 0, iter.getMaxIterations(), org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID);
+        Player bukkitPlayer;
+        if ((bukkitPlayer = Bukkit.getPlayer(session.getPlayerEntity().getUsername())) == null) {
+            return;
+        }
+        World world = bukkitPlayer.getWorld();
+
+        // Blocks in chunks owned by another region are read in one task per chunk, rather than one per block
+        Long2ObjectMap<List<PendingBlock>> foreignBlocks = null;
+        long lastChunk = Long.MIN_VALUE;
+        boolean loaded = false;
+        boolean owned = true;
+        for (; iter.hasNext(); iter.next()) {
+            int x = iter.getX();
+            int z = iter.getZ();
+            long chunk = (long) (x >> 4) << 32 | ((z >> 4) & 0xFFFFFFFFL);
+            if (chunk != lastChunk) {
+                lastChunk = chunk;
+                loaded = world.isChunkLoaded(x >> 4, z >> 4);
+                owned = !SchedulerUtils.FOLIA || Bukkit.isOwnedByCurrentRegion(world, x >> 4, z >> 4);
+            }
+            if (!loaded) {
+                continue;
+            }
+
+            Block block = world.getBlockAt(x, iter.getY(), z);
+            if (owned) {
+                blocks[iter.getIteration()] = getBlockNetworkId(block.getBlockData());
+            } else {
+                if (foreignBlocks == null) {
+                    foreignBlocks = new Long2ObjectOpenHashMap<>();
+                }
+                foreignBlocks.computeIfAbsent(chunk, key -> new ArrayList<>()).add(new PendingBlock(iter.getIteration(), block));
+            }
+        }
+
+        if (foreignBlocks != null) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(foreignBlocks.size());
+            for (List<PendingBlock> chunkBlocks : foreignBlocks.values()) {
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                Bukkit.getRegionScheduler().execute(this.plugin, chunkBlocks.get(0).block().getLocation(), () -> {
+                    for (PendingBlock pending : chunkBlocks) {
+                        blocks[pending.index()] = getBlockNetworkId(pending.block().getBlockData());
+                    }
+                    future.complete(null);
+                });
+                futures.add(future);
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
         }
-        return BlockRegistries.JAVA_IDENTIFIER_TO_ID.getOrDefault(block.getBlockData().getAsString(), org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID); // TODO could just make this a BlockState lookup?
     }
 
     @Override
@@ -175,4 +251,7 @@ public class GeyserSpigotWorldManager extends WorldManager {
     public boolean isLegacy() {
         return false;
     }
+
+    private record PendingBlock(int index, Block block) {
+    }
 }
@@ -70,11 +70,11 @@ import org.geysermc.geyser.extension.GeyserExtensionManager;
 import org.geysermc.geyser.impl.MinecraftVersionImpl;
 import org.geysermc.geyser.level.WorldManager;
 import org.geysermc.geyser.network.GameProtocol;
+import org.geysermc.geyser.network.metrics.GeyserPacketMetrics;
 import org.geysermc.geyser.network.netty.GeyserServer;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.provider.ProviderSupplier;
-import org.geysermc.geyser.scoreboard.ScoreboardUpdater;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.PendingMicrosoftAuthentication;
 import org.geysermc.geyser.session.SessionManager;
@@ -131,6 +131,7 @@ public class GeyserImpl implements GeyserApi {
     private static final String IP_REGEX = "\\b\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}\\b";
 
     private final SessionManager sessionManager = new SessionManager();
+    private final GeyserPacketMetrics packetMetrics = GeyserPacketMetrics.combined(sessionManager);
 
     /**
      * This is used in GeyserConnect to stop the bedrock server binding to a port
@@ -268,8 +269,6 @@ public class GeyserImpl implements GeyserApi {
         GeyserLogger logger = bootstrap.getGeyserLogger();
         GeyserConfiguration config = bootstrap.getGeyserConfig();
 
-        ScoreboardUpdater.init();
-
         SkinProvider.registerCacheImageTask(this);
 
         Registries.RESOURCE_PACKS.load();
@@ -765,6 +764,11 @@ public class GeyserImpl implements GeyserApi {
         return getLogger();
     }
 
+    @Override
+    public @NonNull GeyserPacketMetrics packetMetrics() {
+        return packetMetrics;
+    }
+
     public int buildNumber() {
         if (!this.isProductionEnvironment()) {
             return 0;
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.command.defaults;
+
+import com.google.common.cache.CacheStats;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.api.network.PacketMetrics;
+import org.geysermc.geyser.api.network.PacketStatistics;
+import org.geysermc.geyser.command.GeyserCommand;
+import org.geysermc.geyser.command.GeyserCommandSource;
+import org.geysermc.geyser.network.metrics.GeyserPingMetrics;
+import org.geysermc.geyser.network.netty.GeyserServer;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.text.ChatColor;
+import org.geysermc.geyser.text.GeyserLocale;
+import org.geysermc.geyser.translator.text.TranslatedMessageCache;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+public class PacketStatsCommand extends GeyserCommand {
+    private static final int MAX_PACKETS = 8;
+    private static final int MAX_PING_SOURCES = 3;
+
+    private final GeyserImpl geyser;
+
+    public PacketStatsCommand(GeyserImpl geyser, String name, String description, String permission) {
+        super(name, description, permission);
+
+        this.geyser = geyser;
+    }
+
+    @Override
+    public void execute(GeyserSession session, GeyserCommandSource sender, String[] args) {
+        if (!geyser.getConfig().isPacketMetrics()) {
+            sender.sendMessage(ChatColor.RED + GeyserLocale.getPlayerLocaleString("geyser.commands.packetstats.disabled", sender.locale()));
+            return;
+        }
+
+        PacketMetrics metrics;
+        String title;
+        if (args.length >= 1) {
+            GeyserSession target = geyser.getSessionManager().getAllSessions().stream()
+                    .filter(s -> s.bedrockUsername().equalsIgnoreCase(args[0]))
+                    .findFirst()
+                    .orElse(null);
+            if (target == null) {
+                sender.sendMessage(ChatColor.RED + GeyserLocale.getPlayerLocaleString("geyser.commands.packetstats.unknown_player", sender.locale(), args[0]));
+                return;
+            }
+            metrics = target.packetMetrics();
+            title = target.bedrockUsername();
+        } else {
+            metrics = geyser.packetMetrics();
+            title = GeyserLocale.getPlayerLocaleString("geyser.commands.packetstats.all_players", sender.locale());
+        }
+
+        sender.sendMessage(ChatColor.AQUA + GeyserLocale.getPlayerLocaleString("geyser.commands.packetstats.header", sender.locale(), title)
+                + ChatColor.GRAY + " " + GeyserLocale.getPlayerLocaleString("geyser.commands.packetstats.columns", sender.locale()));
+        sender.sendMessage(GeyserLocale.getPlayerLocaleString("geyser.commands.packetstats.traffic", sender.locale(), metrics.pendingTasks(),
+                kilobytes(metrics.bedrockBytesReceived()), kilobytes(metrics.bedrockBytesSent()),
+                kilobytes(metrics.javaBytesReceived()), kilobytes(metrics.javaBytesSent())));
+        sendPackets(sender, "Java", metrics.javaPackets());
+        sendPackets(sender, "Bedrock", metrics.bedrockPackets());
+
+        // Shared between all players
+        CacheStats messageCache = TranslatedMessageCache.stats();
+        if (args.length == 0 && messageCache != null) {
+            sender.sendMessage(ChatColor.YELLOW + GeyserLocale.getPlayerLocaleString("geyser.commands.packetstats.message_cache", sender.locale()) + " "
+                    + ChatColor.RESET + GeyserLocale.getPlayerLocaleString("geyser.commands.packetstats.message_cache.stats", sender.locale(),
+                            TranslatedMessageCache.size(), messageCache.hitCount(), messageCache.missCount())
+                    + ChatColor.GRAY + " " + GeyserLocale.getPlayerLocaleString("geyser.commands.packetstats.message_cache.hit_rate", sender.locale(),
+                            Math.round(messageCache.hitRate() * 100)));
+        }
+
+        GeyserServer server = geyser.getGeyserServer();
+        if (args.length == 0 && server != null) {
+            GeyserPingMetrics pingMetrics = server.getPingMetrics();
+            sender.sendMessage(ChatColor.YELLOW + GeyserLocale.getPlayerLocaleString("geyser.commands.packetstats.pings", sender.locale()) + " "
+                    + ChatColor.RESET + GeyserLocale.getPlayerLocaleString("geyser.commands.packetstats.pings.stats", sender.locale(),
+                            pingMetrics.pings(), pingMetrics.cachedPongs()));
+            for (GeyserPingMetrics.SourceRate source : pingMetrics.topSources(MAX_PING_SOURCES)) {
+                String address = geyser.getConfig().isLogPlayerIpAddresses() ? source.address().getHostAddress() : "<IP address withheld>";
+                sender.sendMessage(" " + address + ChatColor.GRAY + ": " + GeyserLocale.getPlayerLocaleString("geyser.commands.packetstats.pings.source",
+                        sender.locale(), String.format("%.1f", source.perSecond()), source.count()));
+            }
+        }
+    }
+
+    private static void sendPackets(GeyserCommandSource sender, String edition, Collection<? extends PacketStatistics> packets) {
+        List<? extends PacketStatistics> slowest = packets.stream()
+                .sorted(Comparator.comparingLong(PacketStatistics::totalNanos).reversed())
+                .limit(MAX_PACKETS)
+                .toList();
+        sender.sendMessage(ChatColor.YELLOW + GeyserLocale.getPlayerLocaleString("geyser.commands.packetstats.packets", sender.locale(), edition));
+        for (PacketStatistics packet : slowest) {
+            long p99 = packet.percentileNanos(99);
+            sender.sendMessage(" " + packet.packetName() + ChatColor.GRAY + ": " + packet.count()
+                    + ", " + micros(packet.totalNanos() / Math.max(1, packet.count()))
+                    + ", " + (p99 < 0 ? "-" : micros(p99))
+                    + ", " + micros(packet.maxNanos()));
+        }
+    }
+
+    private static String micros(long nanos) {
+        return nanos / 1000 + "µs";
+    }
+
+    private static String kilobytes(long bytes) {
+        return bytes / 1024 + "KB";
+    }
+
+    @Override
+    public boolean isSuggestedOpOnly() {
+        return true;
+    }
+}
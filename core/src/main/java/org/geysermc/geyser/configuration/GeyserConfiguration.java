@@ -179,6 +179,24 @@ public interface GeyserConfiguration {
 
     boolean isDisableCompression();
 
+    boolean isChunkCaching();
+
+    boolean isSubChunkRequests();
+
+    int getChunkSectionCacheSize();
+
+    int getChunkTranslationThreads();
+
+    int getResourcePackCacheSize();
+
+    int getResourcePackDownloadLimit();
+
+    boolean isErosionChunkMirror();
+
+    boolean isPacketMetrics();
+
+    int getMessageCacheSize();
+
     int getConfigVersion();
 
     static void checkGeyserConfiguration(GeyserConfiguration geyserConfig, GeyserLogger geyserLogger) {
@@ -338,6 +338,33 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
     @JsonProperty("disable-compression")
     private boolean isDisableCompression = true;
 
+    @JsonProperty("chunk-caching")
+    private boolean chunkCaching = false;
+
+    @JsonProperty("sub-chunk-requests")
+    private boolean subChunkRequests = false;
+
+    @JsonProperty("chunk-section-cache-size")
+    private int chunkSectionCacheSize = 32;
+
+    @JsonProperty("chunk-translation-threads")
+    private int chunkTranslationThreads = 0;
+
+    @JsonProperty("resource-pack-cache-size")
+    private int resourcePackCacheSize = 256;
+
+    @JsonProperty("resource-pack-download-limit")
+    private int resourcePackDownloadLimit = 0;
+
+    @JsonProperty("erosion-chunk-mirror")
+    private boolean erosionChunkMirror = false;
+
+    @JsonProperty("packet-metrics")
+    private boolean packetMetrics = false;
+
+    @JsonProperty("message-cache-size")
+    private int messageCacheSize = 10000;
+
     @JsonProperty("config-version")
     private int configVersion = 0;
 
@@ -28,22 +28,27 @@ package org.geysermc.geyser.dump;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.CacheStats;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSource;
 import com.google.common.io.Files;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import lombok.Getter;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.protocol.bedrock.codec.BedrockCodec;
 import org.geysermc.floodgate.util.DeviceOs;
 import org.geysermc.floodgate.util.FloodgateInfoHolder;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.GeyserApi;
 import org.geysermc.geyser.api.extension.Extension;
+import org.geysermc.geyser.api.network.PacketMetrics;
+import org.geysermc.geyser.api.network.PacketStatistics;
 import org.geysermc.geyser.configuration.GeyserConfiguration;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.text.AsteriskSerializer;
+import org.geysermc.geyser.translator.text.TranslatedMessageCache;
 import org.geysermc.geyser.util.CpuUtils;
 import org.geysermc.geyser.util.FileUtils;
 import org.geysermc.geyser.util.WebUtils;
@@ -76,6 +81,9 @@ public class DumpInfo {
     private final int connectionAttempts;
     private final HashInfo hashInfo;
     private final RamInfo ramInfo;
+    private final ChunkCacheInfo chunkCacheInfo;
+    private final PacketMetricsInfo packetMetricsInfo;
+    private final MessageCacheInfo messageCacheInfo;
     private LogsInfo logsInfo;
     private final BootstrapDumpInfo bootstrapInfo;
     private final FlagsInfo flagsInfo;
@@ -114,6 +122,9 @@ public class DumpInfo {
         this.hashInfo = new HashInfo(md5Hash, sha256Hash);
 
         this.ramInfo = new RamInfo();
+        this.chunkCacheInfo = new ChunkCacheInfo();
+        this.packetMetricsInfo = new PacketMetricsInfo(GeyserImpl.getInstance().packetMetrics());
+        this.messageCacheInfo = new MessageCacheInfo();
 
         if (addLog) {
             this.logsInfo = new LogsInfo();
@@ -267,6 +278,65 @@ public class DumpInfo {
         }
     }
 
+    /**
+     * Estimated memory held by session chunk caches, in kilobytes. Sections shared between sessions are counted for each session.
+     */
+    public record ChunkCacheInfo(long total, long maxPerSession) {
+        public ChunkCacheInfo() {
+            this(GeyserImpl.getInstance().getSessionManager().getAllSessions().stream()
+                            .mapToLong(session -> session.getChunkCache().getRetainedBytes()).sum() / 1024L,
+                    GeyserImpl.getInstance().getSessionManager().getAllSessions().stream()
+                            .mapToLong(session -> session.getChunkCache().getRetainedBytes()).max().orElse(0) / 1024L);
+        }
+    }
+
+    /**
+     * Packet translation times of all sessions since startup, if packet metrics are enabled. Only the packets that took
+     * the most time in total are included.
+     */
+    public record PacketMetricsInfo(boolean enabled, int pendingTasks, long bedrockBytesReceived, long bedrockBytesSent,
+                                    long javaBytesReceived, long javaBytesSent, List<PacketInfo> bedrockPackets, List<PacketInfo> javaPackets) {
+        private static final int MAX_PACKETS = 15;
+
+        public PacketMetricsInfo(PacketMetrics metrics) {
+            this(metrics.enabled(), metrics.pendingTasks(), metrics.bedrockBytesReceived(), metrics.bedrockBytesSent(),
+                    metrics.javaBytesReceived(), metrics.javaBytesSent(), slowest(metrics.bedrockPackets()), slowest(metrics.javaPackets()));
+        }
+
+        private static List<PacketInfo> slowest(Collection<? extends PacketStatistics> packets) {
+            return packets.stream()
+                    .sorted(Comparator.comparingLong(PacketStatistics::totalNanos).reversed())
+                    .limit(MAX_PACKETS)
+                    .map(PacketInfo::new)
+                    .toList();
+        }
+    }
+
+    /**
+     * Usage of the translated message cache since startup.
+     */
+    public record MessageCacheInfo(boolean enabled, long size, long hits, long misses, double hitRate) {
+        public MessageCacheInfo() {
+            this(TranslatedMessageCache.stats());
+        }
+
+        private MessageCacheInfo(@Nullable CacheStats stats) {
+            this(stats != null, TranslatedMessageCache.size(), stats == null ? 0 : stats.hitCount(),
+                    stats == null ? 0 : stats.missCount(), stats == null ? 0 : stats.hitRate());
+        }
+    }
+
+    /**
+     * Times are in microseconds.
+     */
+    public record PacketInfo(String name, long count, long total, long average, long p99, long max) {
+        public PacketInfo(PacketStatistics statistics) {
+            this(statistics.packetName(), statistics.count(), statistics.totalNanos() / 1000,
+                    statistics.totalNanos() / Math.max(1, statistics.count()) / 1000,
+                    statistics.percentileNanos(99) / 1000, statistics.maxNanos() / 1000);
+        }
+    }
+
     /**
      * E.G. `-Xmx1024M` - all runtime JVM flags on this machine
      */
@@ -32,17 +32,19 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
-import lombok.Getter;
-import lombok.Setter;
 import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.nbt.NbtMap;
 import org.cloudburstmc.protocol.bedrock.data.SoundEvent;
 import org.cloudburstmc.protocol.bedrock.packet.LevelSoundEventPacket;
 import org.geysermc.erosion.packet.ErosionPacketHandler;
 import org.geysermc.erosion.packet.ErosionPacketSender;
+import org.geysermc.erosion.packet.backendbound.BackendboundBatchBlockRequestPacket;
+import org.geysermc.erosion.packet.backendbound.BackendboundBlockRequestPacket;
 import org.geysermc.erosion.packet.backendbound.BackendboundInitializePacket;
 import org.geysermc.erosion.packet.backendbound.BackendboundPacket;
+import org.geysermc.erosion.packet.backendbound.BackendboundPickBlockPacket;
 import org.geysermc.erosion.packet.geyserbound.*;
+import org.geysermc.erosion.util.BlockPositionIterator;
 import org.geysermc.geyser.level.block.BlockStateValues;
 import org.geysermc.geyser.level.block.property.Properties;
 import org.geysermc.geyser.level.block.type.Block;
@@ -55,19 +57,22 @@ import org.geysermc.geyser.translator.level.block.entity.PistonBlockEntity;
 import org.geysermc.geyser.util.BlockEntityUtils;
 import org.geysermc.mcprotocollib.protocol.data.game.level.block.value.PistonValueType;
 
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public final class GeyserboundPacketHandlerImpl extends AbstractGeyserboundPacketHandler {
     private final ErosionPacketSender<BackendboundPacket> packetSender;
-    @Setter
-    private CompletableFuture<Integer> pendingLookup = null;
-    @Getter
-    private final Int2ObjectMap<CompletableFuture<Integer>> asyncPendingLookups = Int2ObjectMaps.synchronize(new Int2ObjectOpenHashMap<>(4));
-    @Setter
-    private CompletableFuture<int[]> pendingBatchLookup = null;
-    @Setter
-    private CompletableFuture<Int2ObjectMap<byte[]>> pickBlockLookup = null;
+    /**
+     * Block lookups by their transaction ID, so any number of them can be waiting on the backend at once.
+     */
+    private final Int2ObjectMap<CompletableFuture<Integer>> pendingLookups = Int2ObjectMaps.synchronize(new Int2ObjectOpenHashMap<>(4));
+    /**
+     * Batch and pick block lookups don't have a transaction ID, but the backend answers them in the order they were sent.
+     */
+    private final Queue<CompletableFuture<int[]>> pendingBatchLookups = new ConcurrentLinkedQueue<>();
+    private final Queue<CompletableFuture<Int2ObjectMap<byte[]>>> pickBlockLookups = new ConcurrentLinkedQueue<>();
 
     private final AtomicInteger nextTransactionId = new AtomicInteger(1);
 
@@ -78,8 +83,9 @@ public final class GeyserboundPacketHandlerImpl extends AbstractGeyserboundPacke
 
     @Override
     public void handleBatchBlockId(GeyserboundBatchBlockIdPacket packet) {
-        if (this.pendingBatchLookup != null) {
-            this.pendingBatchLookup.complete(packet.getBlocks());
+        CompletableFuture<int[]> future = this.pendingBatchLookups.poll();
+        if (future != null) {
+            future.complete(packet.getBlocks());
         } else {
             session.getGeyser().getLogger().warning("Batch block ID packet received with no future to complete.");
         }
@@ -93,13 +99,7 @@ public final class GeyserboundPacketHandlerImpl extends AbstractGeyserboundPacke
 
     @Override
     public void handleBlockId(GeyserboundBlockIdPacket packet) {
-        if (packet.getTransactionId() == 0) {
-            if (this.pendingLookup != null) {
-                this.pendingLookup.complete(packet.getBlockId());
-                return;
-            }
-        }
-        CompletableFuture<Integer> future = this.asyncPendingLookups.remove(packet.getTransactionId());
+        CompletableFuture<Integer> future = this.pendingLookups.remove(packet.getTransactionId());
         if (future != null) {
             future.complete(packet.getBlockId());
             return;
@@ -110,18 +110,14 @@ public final class GeyserboundPacketHandlerImpl extends AbstractGeyserboundPacke
     @Override
     public void handleBlockLookupFail(GeyserboundBlockLookupFailPacket packet) {
         if (packet.getTransactionId() == 0) {
-            if (this.pendingBatchLookup != null) {
-                this.pendingBatchLookup.complete(null);
-                return;
-            }
-        }
-        int transactionId = packet.getTransactionId() - 1;
-        if (transactionId == 0) {
-            if (this.pendingLookup != null) {
-                this.pendingLookup.complete(0);
+            CompletableFuture<int[]> future = this.pendingBatchLookups.poll();
+            if (future != null) {
+                future.complete(null);
             }
+            return;
         }
-        CompletableFuture<Integer> future = this.asyncPendingLookups.remove(transactionId);
+        // Single lookups fail with their transaction ID plus one
+        CompletableFuture<Integer> future = this.pendingLookups.remove(packet.getTransactionId() - 1);
         if (future != null) {
             future.complete(Block.JAVA_AIR_ID);
         }
@@ -142,8 +138,9 @@ public final class GeyserboundPacketHandlerImpl extends AbstractGeyserboundPacke
 
     @Override
     public void handlePickBlock(GeyserboundPickBlockPacket packet) {
-        if (this.pickBlockLookup != null) {
-            this.pickBlockLookup.complete(packet.getComponents());
+        CompletableFuture<Int2ObjectMap<byte[]>> future = this.pickBlockLookups.poll();
+        if (future != null) {
+            future.complete(packet.getComponents());
         }
     }
 
@@ -196,12 +193,47 @@ public final class GeyserboundPacketHandlerImpl extends AbstractGeyserboundPacke
         this.packetSender.sendPacket(packet);
     }
 
+    public CompletableFuture<Integer> lookupBlock(Vector3i position) {
+        CompletableFuture<Integer> future = new CompletableFuture<>(); // Boxes
+        int transactionId = nextTransactionId.getAndIncrement();
+        this.pendingLookups.put(transactionId, future);
+        sendPacket(new BackendboundBlockRequestPacket(transactionId, position));
+        return future;
+    }
+
+    public synchronized CompletableFuture<int[]> lookupBlocks(BlockPositionIterator iter) {
+        // Synchronized so the futures are queued in the same order the requests are sent
+        CompletableFuture<int[]> future = new CompletableFuture<>();
+        this.pendingBatchLookups.add(future);
+        sendPacket(new BackendboundBatchBlockRequestPacket(iter));
+        return future;
+    }
+
+    public synchronized CompletableFuture<Int2ObjectMap<byte[]>> lookupPickBlock(Vector3i position) {
+        CompletableFuture<Int2ObjectMap<byte[]>> future = new CompletableFuture<>();
+        this.pickBlockLookups.add(future);
+        sendPacket(new BackendboundPickBlockPacket(position));
+        return future;
+    }
+
     public void close() {
         this.packetSender.close();
-    }
 
-    public int getNextTransactionId() {
-        return nextTransactionId.getAndIncrement();
+        // Nothing will answer these anymore; don't leave anyone waiting on them
+        synchronized (this.pendingLookups) {
+            for (CompletableFuture<Integer> future : this.pendingLookups.values()) {
+                future.complete(Block.JAVA_AIR_ID);
+            }
+            this.pendingLookups.clear();
+        }
+        CompletableFuture<int[]> batchLookup;
+        while ((batchLookup = this.pendingBatchLookups.poll()) != null) {
+            batchLookup.complete(null);
+        }
+        CompletableFuture<Int2ObjectMap<byte[]>> pickBlockLookup;
+        while ((pickBlockLookup = this.pickBlockLookups.poll()) != null) {
+            pickBlockLookup.complete(null);
+        }
     }
 
     @Override
@@ -40,6 +40,7 @@ import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponen
 import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
 
 import java.util.HashMap;
+import java.util.Objects;
 
 @Data
 public class GeyserItemStack {
@@ -54,6 +55,33 @@ public class GeyserItemStack {
     @EqualsAndHashCode.Exclude
     private Item item;
 
+    /**
+     * The last result of {@link #getItemData(GeyserSession)}, which is reused as long as the amount, net ID,
+     * components and the session's tooltip settings stay the same. Components changed in place must be
+     * fetched through {@link #getOrCreateComponents()} so this is dropped.
+     */
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude @ToString.Exclude
+    private ItemData cachedItemData;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude @ToString.Exclude
+    private GeyserSession cachedItemDataSession;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude @ToString.Exclude
+    private DataComponents cachedItemDataComponents;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude @ToString.Exclude
+    private int cachedItemDataAmount;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude @ToString.Exclude
+    private int cachedItemDataNetId;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude @ToString.Exclude
+    private boolean cachedItemDataAdvancedTooltips;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude @ToString.Exclude
+    private String cachedItemDataLocale;
+
     private GeyserItemStack(int javaId, int amount, DataComponents components) {
         this(javaId, amount, components, 1);
     }
@@ -91,6 +119,8 @@ public class GeyserItemStack {
 
     @NonNull
     public DataComponents getOrCreateComponents() {
+        // The components are likely about to be modified
+        cachedItemData = null;
         if (components == null) {
             return components = new DataComponents(new HashMap<>());
         }
@@ -153,10 +183,22 @@ public class GeyserItemStack {
         if (isEmpty()) {
             return ItemData.AIR;
         }
+        if (cachedItemData != null && cachedItemDataSession == session && cachedItemDataComponents == components
+                && cachedItemDataAmount == amount && cachedItemDataNetId == netId
+                && cachedItemDataAdvancedTooltips == session.isAdvancedTooltips() && Objects.equals(cachedItemDataLocale, session.locale())) {
+            return cachedItemData;
+        }
         ItemData.Builder itemData = ItemTranslator.translateToBedrock(session, javaId, amount, components);
         itemData.netId(getNetId());
         itemData.usingNetId(true);
-        return itemData.build();
+
+        cachedItemDataSession = session;
+        cachedItemDataComponents = components;
+        cachedItemDataAmount = amount;
+        cachedItemDataNetId = netId;
+        cachedItemDataAdvancedTooltips = session.isAdvancedTooltips();
+        cachedItemDataLocale = session.locale();
+        return cachedItemData = itemData.build();
     }
 
     public ItemMapping getMapping(GeyserSession session) {
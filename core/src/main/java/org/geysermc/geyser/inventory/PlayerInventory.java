@@ -28,11 +28,14 @@ package org.geysermc.geyser.inventory;
 import lombok.Getter;
 import lombok.Setter;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.mcprotocollib.protocol.data.game.entity.player.Hand;
 import org.jetbrains.annotations.Range;
 
+import java.util.Arrays;
+
 public class PlayerInventory extends Inventory {
     /**
      * Stores the held item slot, starting at index 0.
@@ -46,6 +49,12 @@ public class PlayerInventory extends Inventory {
     @NonNull
     private GeyserItemStack cursor = GeyserItemStack.EMPTY;
 
+    /**
+     * The Bedrock items that were last sent to the client, by Java slot, so slots that did not change don't have to be
+     * sent again. A null entry means the client might not show what was last sent.
+     */
+    private final ItemData[] sentItems = new ItemData[46];
+
     public PlayerInventory() {
         super(0, 46, null);
         heldItemSlot = 0;
@@ -84,4 +93,26 @@ public class PlayerInventory extends Inventory {
     public GeyserItemStack getOffhand() {
         return items[45];
     }
+
+    /**
+     * Remembers an item as sent to the client.
+     *
+     * @return false if the client was already sent this exact item for this slot, and it does not need to be sent again
+     */
+    public boolean updateSentItem(int slot, ItemData item) {
+        if (item.equals(sentItems[slot])) {
+            return false;
+        }
+        sentItems[slot] = item;
+        return true;
+    }
+
+    /**
+     * Should be called whenever the client may have changed its inventory by itself, or when something other than the
+     * {@link org.geysermc.geyser.translator.inventory.PlayerInventoryTranslator} sends player inventory slots.
+     * All slots are sent again on the next inventory update.
+     */
+    public void clearSentItems() {
+        Arrays.fill(sentItems, null);
+    }
 }
@@ -25,20 +25,19 @@
 
 package org.geysermc.geyser.level;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.math.vector.Vector3i;
-import org.geysermc.erosion.packet.backendbound.BackendboundBatchBlockRequestPacket;
-import org.geysermc.erosion.packet.backendbound.BackendboundBlockRequestPacket;
-import org.geysermc.erosion.packet.backendbound.BackendboundPickBlockPacket;
 import org.geysermc.erosion.util.BlockPositionIterator;
+import org.geysermc.geyser.level.block.type.Block;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ChunkCache;
 import org.geysermc.mcprotocollib.protocol.data.game.entity.player.GameMode;
 import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
 
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 
 public class GeyserWorldManager extends WorldManager {
@@ -47,38 +46,58 @@ public class GeyserWorldManager extends WorldManager {
     @Override
     public int getBlockAt(GeyserSession session, int x, int y, int z) {
         var erosionHandler = session.getErosionHandler().getAsActive();
-        if (erosionHandler == null) {
+        if (erosionHandler == null || isMirrored(session, x, z)) {
             return session.getChunkCache().getBlockAt(x, y, z);
         }
-        CompletableFuture<Integer> future = new CompletableFuture<>(); // Boxes
-        erosionHandler.setPendingLookup(future);
-        erosionHandler.sendPacket(new BackendboundBlockRequestPacket(0, Vector3i.from(x, y, z)));
-        return future.join();
+        return erosionHandler.lookupBlock(Vector3i.from(x, y, z)).join();
     }
 
     @Override
     public CompletableFuture<Integer> getBlockAtAsync(GeyserSession session, int x, int y, int z) {
         var erosionHandler = session.getErosionHandler().getAsActive();
-        if (erosionHandler == null) {
+        if (erosionHandler == null || isMirrored(session, x, z)) {
             return super.getBlockAtAsync(session, x, y, z);
         }
-        CompletableFuture<Integer> future = new CompletableFuture<>(); // Boxes
-        int transactionId = erosionHandler.getNextTransactionId();
-        erosionHandler.getAsyncPendingLookups().put(transactionId, future);
-        erosionHandler.sendPacket(new BackendboundBlockRequestPacket(transactionId, Vector3i.from(x, y, z)));
-        return future;
+        return erosionHandler.lookupBlock(Vector3i.from(x, y, z));
     }
 
     @Override
-    public int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter) {
+    public void getBlocksAt(GeyserSession session, BlockPositionIterator iter, int[] blocks) {
         var erosionHandler = session.getErosionHandler().getAsActive();
         if (erosionHandler == null) {
-            return super.getBlocksAt(session, iter);
+            super.getBlocksAt(session, iter, blocks);
+            return;
+        }
+        if (session.getGeyser().getConfig().isErosionChunkMirror()) {
+            ChunkCache chunkCache = session.getChunkCache();
+            boolean mirrored = true;
+            for (; iter.hasNext(); iter.next()) {
+                if (!chunkCache.isChunkCached(iter.getX() >> 4, iter.getZ() >> 4)) {
+                    mirrored = false;
+                    break;
+                }
+                blocks[iter.getIteration()] = chunkCache.getBlockAt(iter.getX(), iter.getY(), iter.getZ());
+            }
+            if (mirrored) {
+                return;
+            }
+            // One request for all positions is still much cheaper than waiting on the backend for each missing one
+            iter.reset();
         }
-        CompletableFuture<int[]> future = new CompletableFuture<>();
-        erosionHandler.setPendingBatchLookup(future);
-        erosionHandler.sendPacket(new BackendboundBatchBlockRequestPacket(iter));
-        return future.join();
+        int[] result = erosionHandler.lookupBlocks(iter).join();
+        if (result == null) {
+            // The lookup failed or the handler closed; treat everything as air rather than failing the collision check
+            Arrays.fill(blocks, 0, iter.getMaxIterations(), Block.JAVA_AIR_ID);
+            return;
+        }
+        System.arraycopy(result, 0, blocks, 0, result.length);
+    }
+
+    /**
+     * @return if the block can be looked up in the session's copy of the chunks it received, rather than on the Erosion backend
+     */
+    private static boolean isMirrored(GeyserSession session, int x, int z) {
+        return session.getGeyser().getConfig().isErosionChunkMirror() && session.getChunkCache().isChunkCached(x >> 4, z >> 4);
     }
 
     @Override
@@ -130,9 +149,7 @@ public class GeyserWorldManager extends WorldManager {
         if (erosionHandler == null) {
             return super.getPickItemComponents(session, x, y, z, addNbtData);
         }
-        CompletableFuture<Int2ObjectMap<byte[]>> future = new CompletableFuture<>();
-        erosionHandler.setPickBlockLookup(future);
-        erosionHandler.sendPacket(new BackendboundPickBlockPacket(Vector3i.from(x, y, z)));
-        return future.thenApply(RAW_TRANSFORMER);
+        // The lookup completes with null if Erosion disconnects before answering
+        return erosionHandler.lookupPickBlock(Vector3i.from(x, y, z)).thenApply(map -> map == null ? null : RAW_TRANSFORMER.apply(map));
     }
 }
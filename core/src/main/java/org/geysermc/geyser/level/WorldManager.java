@@ -101,11 +101,22 @@ public abstract class WorldManager {
 
     public int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter) {
         int[] blocks = new int[iter.getMaxIterations()];
+        this.getBlocksAt(session, iter, blocks);
+        return blocks;
+    }
+
+    /**
+     * Gets the block states of every position in the iterator, so callers that look up blocks often can reuse one array.
+     *
+     * @param session the session of the player
+     * @param iter the positions to look up
+     * @param blocks where each block state is stored, at its iteration index. Must hold at least {@link BlockPositionIterator#getMaxIterations()} blocks.
+     */
+    public void getBlocksAt(GeyserSession session, BlockPositionIterator iter, int[] blocks) {
         for (; iter.hasNext(); iter.next()) {
             int networkId = this.getBlockAt(session, iter.getX(), iter.getY(), iter.getZ());
             blocks[iter.getIteration()] = networkId;
         }
-        return blocks;
     }
 
     /**
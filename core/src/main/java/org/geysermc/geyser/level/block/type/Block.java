@@ -31,8 +31,10 @@ import net.kyori.adventure.key.Key;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.math.vector.Vector3i;
+import org.cloudburstmc.protocol.bedrock.data.BlockChangeEntry;
 import org.cloudburstmc.protocol.bedrock.data.definitions.BlockDefinition;
 import org.cloudburstmc.protocol.bedrock.packet.UpdateBlockPacket;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateSubChunkBlocksPacket;
 import org.geysermc.geyser.item.type.Item;
 import org.geysermc.geyser.level.block.Blocks;
 import org.geysermc.geyser.level.block.property.BasicEnumProperty;
@@ -51,6 +53,11 @@ import java.util.stream.Stream;
 
 public class Block {
     public static final int JAVA_AIR_ID = 0;
+    /**
+     * The same flags as sent for single block updates, encoded the way the protocol library encodes them
+     * for {@link UpdateBlockPacket}.
+     */
+    private static final int BATCHED_UPDATE_FLAGS = encodeFlags(UpdateBlockPacket.Flag.NEIGHBORS, UpdateBlockPacket.Flag.NETWORK);
 
     private final Key javaIdentifier;
     /**
@@ -124,6 +131,40 @@ public class Block {
         }
     }
 
+    private static int encodeFlags(UpdateBlockPacket.Flag... flags) {
+        int encoded = 0;
+        for (UpdateBlockPacket.Flag flag : flags) {
+            encoded |= 1 << flag.ordinal();
+        }
+        return encoded;
+    }
+
+    /**
+     * Adds this block change to a sub-chunk block update, instead of sending it as individual packets.
+     * Blocks that have side effects beyond their block layers should return false so {@link #updateBlock} is used instead.
+     *
+     * @return whether this block change was added to the packet
+     */
+    public boolean updateBlockBatched(GeyserSession session, BlockState state, Vector3i position, UpdateSubChunkBlocksPacket packet) {
+        if (!session.getBlockMappings().getExtendedCollisionBoxes().isEmpty()) {
+            // Needs to look at the blocks above and below
+            return false;
+        }
+        checkForEmptySkull(session, state, position);
+
+        BlockDefinition definition = session.getBlockMappings().getBedrockBlock(state);
+        packet.getStandardBlocks().add(new BlockChangeEntry(position, definition, BATCHED_UPDATE_FLAGS, 0, BlockChangeEntry.MessageType.NONE));
+
+        BlockDefinition waterDefinition;
+        if (BlockRegistries.WATERLOGGED.get().get(state.javaId())) {
+            waterDefinition = session.getBlockMappings().getBedrockWater();
+        } else {
+            waterDefinition = session.getBlockMappings().getBedrockAir();
+        }
+        packet.getExtraBlocks().add(new BlockChangeEntry(position, waterDefinition, 0, 0, BlockChangeEntry.MessageType.NONE));
+        return true;
+    }
+
     protected void sendBlockUpdatePacket(GeyserSession session, BlockState state, BlockDefinition definition, Vector3i position) {
         UpdateBlockPacket updateBlockPacket = new UpdateBlockPacket();
         updateBlockPacket.setDataLayer(0);
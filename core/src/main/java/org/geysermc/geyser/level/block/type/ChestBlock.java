@@ -27,6 +27,7 @@ package org.geysermc.geyser.level.block.type;
 
 import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.nbt.NbtMapBuilder;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateSubChunkBlocksPacket;
 import org.geysermc.geyser.level.block.property.ChestType;
 import org.geysermc.geyser.level.block.property.Properties;
 import org.geysermc.geyser.session.GeyserSession;
@@ -49,4 +50,9 @@ public class ChestBlock extends Block {
             BlockEntityUtils.updateBlockEntity(session, tagBuilder.build(), position);
         }
     }
+
+    @Override
+    public boolean updateBlockBatched(GeyserSession session, BlockState state, Vector3i position, UpdateSubChunkBlocksPacket packet) {
+        return false;
+    }
 }
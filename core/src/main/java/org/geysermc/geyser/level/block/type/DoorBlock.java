@@ -26,6 +26,7 @@
 package org.geysermc.geyser.level.block.type;
 
 import org.cloudburstmc.math.vector.Vector3i;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateSubChunkBlocksPacket;
 import org.geysermc.geyser.level.block.property.Properties;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.util.ChunkUtils;
@@ -47,4 +48,9 @@ public class DoorBlock extends Block {
             ChunkUtils.updateBlock(session, belowDoorBlockState, belowDoorPosition);
         }
     }
+
+    @Override
+    public boolean updateBlockBatched(GeyserSession session, BlockState state, Vector3i position, UpdateSubChunkBlocksPacket packet) {
+        return false;
+    }
 }
@@ -29,6 +29,7 @@ import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.nbt.NbtMap;
 import org.cloudburstmc.nbt.NbtMapBuilder;
 import org.cloudburstmc.protocol.bedrock.packet.UpdateBlockPacket;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateSubChunkBlocksPacket;
 import org.geysermc.geyser.level.block.Blocks;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.translator.level.block.entity.BedrockChunkWantsBlockEntityTag;
@@ -89,4 +90,9 @@ public class FlowerPotBlock extends Block implements BedrockChunkWantsBlockEntit
     public Block flower() {
         return flower;
     }
+
+    @Override
+    public boolean updateBlockBatched(GeyserSession session, BlockState state, Vector3i position, UpdateSubChunkBlocksPacket packet) {
+        return false;
+    }
 }
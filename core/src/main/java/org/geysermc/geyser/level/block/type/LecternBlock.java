@@ -29,6 +29,7 @@ import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.nbt.NbtMap;
 import org.cloudburstmc.nbt.NbtMapBuilder;
 import org.cloudburstmc.nbt.NbtType;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateSubChunkBlocksPacket;
 import org.geysermc.geyser.level.WorldManager;
 import org.geysermc.geyser.level.block.property.Properties;
 import org.geysermc.geyser.session.GeyserSession;
@@ -90,4 +91,9 @@ public class LecternBlock extends Block implements BedrockChunkWantsBlockEntityT
 
         return builder;
     }
+
+    @Override
+    public boolean updateBlockBatched(GeyserSession session, BlockState state, Vector3i position, UpdateSubChunkBlocksPacket packet) {
+        return false;
+    }
 }
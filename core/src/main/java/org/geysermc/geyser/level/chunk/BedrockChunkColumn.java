@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.nbt.NBTOutputStream;
+import org.cloudburstmc.nbt.NbtMap;
+import org.cloudburstmc.nbt.NbtUtils;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A chunk column that has already been translated to Bedrock, kept so its sections can be sent on request.
+ * Sections are indexed from the bottom of the Bedrock dimension.
+ */
+public final class BedrockChunkColumn {
+    private final GeyserChunkSection[] sections;
+    private final List<NbtMap> blockEntities;
+    /**
+     * The sub chunk index of the lowest section in this column.
+     */
+    private final int minSectionY;
+
+    public BedrockChunkColumn(GeyserChunkSection[] sections, List<NbtMap> blockEntities, int minSectionY) {
+        this.sections = sections;
+        this.blockEntities = blockEntities;
+        this.minSectionY = minSectionY;
+    }
+
+    /**
+     * @param sectionY the sub chunk index, as sent by the Bedrock client
+     * @return the section at this sub chunk index, or null if it is empty
+     */
+    public @Nullable GeyserChunkSection getSection(int sectionY) {
+        return sections[sectionY - minSectionY];
+    }
+
+    public boolean isInBounds(int sectionY) {
+        int index = sectionY - minSectionY;
+        return index >= 0 && index < sections.length;
+    }
+
+    /**
+     * Writes all block entities of this sub chunk index into the buffer.
+     */
+    public void writeBlockEntities(ByteBuf buffer, int sectionY) throws IOException {
+        NBTOutputStream nbtStream = null;
+        for (NbtMap blockEntity : blockEntities) {
+            if ((blockEntity.getInt("y") >> 4) != sectionY) {
+                continue;
+            }
+            if (nbtStream == null) {
+                nbtStream = NbtUtils.createNetworkWriter(new ByteBufOutputStream(buffer));
+            }
+            nbtStream.writeTag(blockEntity);
+        }
+    }
+
+    /**
+     * Updates a block, so that a later request for this section reflects the change.
+     *
+     * @param x the block X coordinate, relative to the chunk
+     * @param y the absolute block Y coordinate
+     * @param z the block Z coordinate, relative to the chunk
+     * @param layer the Bedrock block layer; 0 for the block itself, 1 for water
+     * @param runtimeId the Bedrock runtime ID of the block, as sent to the client
+     * @param airId the Bedrock runtime ID of air
+     */
+    public void setBlock(int x, int y, int z, int layer, int runtimeId, int airId) {
+        int sectionY = y >> 4;
+        if (!isInBounds(sectionY) || layer < 0 || layer > 1) {
+            return;
+        }
+
+        int index = sectionY - minSectionY;
+        GeyserChunkSection section = sections[index];
+        if (section == null) {
+            if (runtimeId == airId) {
+                // Nothing to update
+                return;
+            }
+            section = new GeyserChunkSection(airId, sectionY);
+        } else {
+            if (section.isShared()) {
+                // Sections shared with other sessions must not be modified
+                section = section.copy(sectionY);
+            }
+            for (BlockStorage blockStorage : section.getBlockStorageArray()) {
+                if (!isMutable(blockStorage.getPalette())) {
+                    // Palettes created during chunk translation may not be expandable
+                    section = section.copy(sectionY);
+                    break;
+                }
+            }
+        }
+
+        BlockStorage[] storage = section.getBlockStorageArray();
+        if (layer >= storage.length) {
+            if (runtimeId == airId) {
+                return;
+            }
+            // A waterlogged block has been placed in a section that didn't have any yet
+            storage = new BlockStorage[] {storage[0], new BlockStorage(airId)};
+            section = new GeyserChunkSection(storage, sectionY);
+        }
+        sections[index] = section;
+
+        int position = GeyserChunkSection.blockPosition(x, y & 0xF, z);
+        if (layer == 0 && storage[0].getFullBlock(position) != runtimeId) {
+            // The block entity is sent again separately if the new block has one
+            removeBlockEntity(x, y, z);
+        }
+        storage[layer].setFullBlock(position, runtimeId);
+    }
+
+    /**
+     * Replaces the block entity at this position, so that a later request for its section includes it.
+     *
+     * @param x the absolute block X coordinate
+     * @param y the absolute block Y coordinate
+     * @param z the absolute block Z coordinate
+     */
+    public void setBlockEntity(int x, int y, int z, NbtMap blockEntity) {
+        if (!isInBounds(y >> 4)) {
+            return;
+        }
+        if (!blockEntity.containsKey("x")) {
+            // The client only needs the position in the packet, but the tags here are written without one
+            blockEntity = blockEntity.toBuilder()
+                    .putInt("x", x)
+                    .putInt("y", y)
+                    .putInt("z", z)
+                    .build();
+        }
+        removeBlockEntity(x & 0xF, y, z & 0xF);
+        blockEntities.add(blockEntity);
+    }
+
+    private void removeBlockEntity(int x, int y, int z) {
+        blockEntities.removeIf(tag -> tag.getInt("y") == y && (tag.getInt("x") & 0xF) == x && (tag.getInt("z") & 0xF) == z);
+    }
+
+    private static boolean isMutable(IntList palette) {
+        return palette instanceof IntArrayList;
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.GlobalPalette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.Palette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.SingletonPalette;
+
+import java.util.Arrays;
+
+/**
+ * A Java chunk section, stored as compactly as possible for block lookups.
+ * <p>
+ * Sections are shared between all sessions that have received the same section, and are never modified while shared;
+ * {@link #withBlock(int, int, int, int)} copies a shared section before changing it.
+ * <p>
+ * The palette only grows with block changes, except that states no longer used anywhere in the section are dropped
+ * whenever the palette would otherwise need more bits per block. Until then, a section can hold unused states and
+ * use more bits per block than it needs. This keeps single block changes cheap, and as sections are dropped with their
+ * chunk, the waste does not build up for long.
+ */
+public final class CompactChunkSection {
+    private static final int SIZE = 4096;
+    private static final Interner<CompactChunkSection> INTERNER = Interners.newWeakInterner();
+
+    /**
+     * The Java block states in this section.
+     */
+    private final int[] palette;
+    /**
+     * Palette indices in YZX order. Like on Java Edition, entries never span two longs.
+     */
+    private final long[] data;
+    private final int bits;
+    private final int valuesPerLong;
+    private final boolean shared;
+
+    private CompactChunkSection(int[] palette, int bits, long[] data, boolean shared) {
+        this.palette = palette;
+        this.bits = bits;
+        this.valuesPerLong = bits == 0 ? 0 : 64 / bits;
+        this.data = data;
+        this.shared = shared;
+    }
+
+    /**
+     * @return a shared section holding the same blocks as the Java section
+     */
+    public static CompactChunkSection from(DataPalette section) {
+        Palette javaPalette = section.getPalette();
+        if (javaPalette instanceof SingletonPalette) {
+            return ofState(javaPalette.idToState(0));
+        }
+
+        BitStorage storage = section.getStorage();
+        IntArrayList states = new IntArrayList();
+        int[] indices = new int[SIZE];
+        if (javaPalette instanceof GlobalPalette) {
+            // Only keep the states that are actually used, rather than 15 or so bits per block
+            Int2IntOpenHashMap stateToIndex = new Int2IntOpenHashMap();
+            stateToIndex.defaultReturnValue(-1);
+            for (int i = 0; i < SIZE; i++) {
+                int state = storage.get(i);
+                int index = stateToIndex.get(state);
+                if (index == -1) {
+                    index = states.size();
+                    states.add(state);
+                    stateToIndex.put(state, index);
+                }
+                indices[i] = index;
+            }
+        } else {
+            for (int i = 0; i < javaPalette.size(); i++) {
+                states.add(javaPalette.idToState(i));
+            }
+            for (int i = 0; i < SIZE; i++) {
+                indices[i] = storage.get(i);
+            }
+        }
+
+        int bits = bitsFor(states.size());
+        CompactChunkSection compact = new CompactChunkSection(states.toIntArray(), bits, new long[dataLength(bits)], true);
+        for (int i = 0; i < SIZE; i++) {
+            compact.setIndex(i, indices[i]);
+        }
+        return INTERNER.intern(compact);
+    }
+
+    /**
+     * @return a shared section filled with one block state
+     */
+    public static CompactChunkSection ofState(int state) {
+        return INTERNER.intern(new CompactChunkSection(new int[] {state}, 0, LongArrays.EMPTY_ARRAY, true));
+    }
+
+    public int get(int x, int y, int z) {
+        return palette[getIndex(index(x, y, z))];
+    }
+
+    /**
+     * Sets a block, copying this section first if it is shared or if its palette needs to grow.
+     *
+     * @return the section containing the change, which should replace this one
+     */
+    public CompactChunkSection withBlock(int x, int y, int z, int state) {
+        int index = index(x, y, z);
+        int paletteIndex = -1;
+        for (int i = 0; i < palette.length; i++) {
+            if (palette[i] == state) {
+                paletteIndex = i;
+                break;
+            }
+        }
+
+        CompactChunkSection target;
+        if (paletteIndex == -1) {
+            target = null;
+            if (bitsFor(palette.length + 1) > bits) {
+                // Before more bits are needed, drop the states that are no longer used, e.g. after blocks were broken
+                target = compactedWith(state, index);
+            }
+            if (target == null) {
+                int[] newPalette = Arrays.copyOf(palette, palette.length + 1);
+                newPalette[palette.length] = state;
+                target = resized(newPalette);
+            }
+            paletteIndex = target.palette.length - 1;
+        } else if (shared) {
+            target = new CompactChunkSection(palette.clone(), bits, data.clone(), false);
+        } else {
+            target = this;
+        }
+        target.setIndex(index, paletteIndex);
+        return target;
+    }
+
+    /**
+     * @return a rough estimate of the heap memory this section uses
+     */
+    public long retainedBytes() {
+        return 64 + palette.length * 4L + data.length * 8L;
+    }
+
+    private CompactChunkSection resized(int[] newPalette) {
+        int newBits = bitsFor(newPalette.length);
+        if (newBits == bits) {
+            return new CompactChunkSection(newPalette, bits, shared ? data.clone() : data, false);
+        }
+        CompactChunkSection resized = new CompactChunkSection(newPalette, newBits, new long[dataLength(newBits)], false);
+        for (int i = 0; i < SIZE; i++) {
+            resized.setIndex(i, getIndex(i));
+        }
+        return resized;
+    }
+
+    /**
+     * @param state the state to add to the end of the palette
+     * @param replacedIndex the block that is about to be replaced, so its current state doesn't count as used
+     * @return a copy without the states that are no longer used, or null if every state is still in use
+     */
+    private @Nullable CompactChunkSection compactedWith(int state, int replacedIndex) {
+        int[] remapped = new int[palette.length];
+        for (int i = 0; i < SIZE; i++) {
+            if (i != replacedIndex) {
+                remapped[getIndex(i)] = 1;
+            }
+        }
+
+        int used = 0;
+        for (int i = 0; i < remapped.length; i++) {
+            if (remapped[i] != 0) {
+                remapped[i] = used++;
+            } else {
+                remapped[i] = -1;
+            }
+        }
+        if (used == palette.length) {
+            return null;
+        }
+
+        int[] newPalette = new int[used + 1];
+        for (int i = 0; i < palette.length; i++) {
+            if (remapped[i] != -1) {
+                newPalette[remapped[i]] = palette[i];
+            }
+        }
+        newPalette[used] = state;
+
+        int newBits = bitsFor(newPalette.length);
+        CompactChunkSection compacted = new CompactChunkSection(newPalette, newBits, new long[dataLength(newBits)], false);
+        for (int i = 0; i < SIZE; i++) {
+            if (i != replacedIndex) {
+                compacted.setIndex(i, remapped[getIndex(i)]);
+            }
+        }
+        return compacted;
+    }
+
+    private int getIndex(int index) {
+        if (bits == 0) {
+            return 0;
+        }
+        int cell = index / valuesPerLong;
+        int shift = (index - cell * valuesPerLong) * bits;
+        return (int) ((data[cell] >>> shift) & ((1L << bits) - 1));
+    }
+
+    private void setIndex(int index, int paletteIndex) {
+        if (bits == 0) {
+            return;
+        }
+        int cell = index / valuesPerLong;
+        int shift = (index - cell * valuesPerLong) * bits;
+        long mask = (1L << bits) - 1;
+        data[cell] = data[cell] & ~(mask << shift) | ((long) paletteIndex & mask) << shift;
+    }
+
+    private static int index(int x, int y, int z) {
+        return y << 8 | z << 4 | x;
+    }
+
+    private static int bitsFor(int paletteSize) {
+        return paletteSize <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(paletteSize - 1);
+    }
+
+    private static int dataLength(int bits) {
+        if (bits == 0) {
+            return 0;
+        }
+        int valuesPerLong = 64 / bits;
+        return (SIZE + valuesPerLong - 1) / valuesPerLong;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactChunkSection other)) {
+            return false;
+        }
+        return bits == other.bits && Arrays.equals(palette, other.palette) && Arrays.equals(data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(palette) + Arrays.hashCode(data);
+    }
+}
@@ -30,9 +30,28 @@ import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
 /**
  * Acts as a lightweight chunk class that doesn't store biomes, heightmaps or block entities.
  */
-public record GeyserChunk(DataPalette[] sections) {
+public record GeyserChunk(CompactChunkSection[] sections) {
 
     public static GeyserChunk from(DataPalette[] sections) {
-        return new GeyserChunk(sections);
+        CompactChunkSection[] compactSections = new CompactChunkSection[sections.length];
+        for (int i = 0; i < sections.length; i++) {
+            if (sections[i] != null) {
+                compactSections[i] = CompactChunkSection.from(sections[i]);
+            }
+        }
+        return new GeyserChunk(compactSections);
+    }
+
+    /**
+     * @return a rough estimate of the heap memory the sections of this chunk use, counting shared sections in full
+     */
+    public long retainedBytes() {
+        long bytes = 16 + sections.length * 8L;
+        for (CompactChunkSection section : sections) {
+            if (section != null) {
+                bytes += section.retainedBytes();
+            }
+        }
+        return bytes;
     }
 }
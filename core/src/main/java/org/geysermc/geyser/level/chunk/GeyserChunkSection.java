@@ -26,6 +26,9 @@
 package org.geysermc.geyser.level.chunk;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.protocol.common.util.Preconditions;
 
 public class GeyserChunkSection {
@@ -36,14 +39,23 @@ public class GeyserChunkSection {
     private final BlockStorage[] storage;
     // Counts up from 00 for y >= 0 and down from FF for y < 0
     private final int subChunkIndex;
+    /**
+     * The network encoding of this section, if it is shared between sessions. Shared sections must not be modified.
+     */
+    private final byte @Nullable [] encoded;
 
     public GeyserChunkSection(int airBlockId, int subChunkIndex) {
         this(new BlockStorage[]{new BlockStorage(airBlockId), new BlockStorage(airBlockId)}, subChunkIndex);
     }
 
     public GeyserChunkSection(BlockStorage[] storage, int subChunkIndex) {
+        this(storage, subChunkIndex, null);
+    }
+
+    private GeyserChunkSection(BlockStorage[] storage, int subChunkIndex, byte @Nullable [] encoded) {
         this.storage = storage;
         this.subChunkIndex = subChunkIndex;
+        this.encoded = encoded;
     }
 
     public int getFullBlock(int x, int y, int z, int layer) {
@@ -53,12 +65,23 @@ public class GeyserChunkSection {
     }
 
     public void setFullBlock(int x, int y, int z, int layer, int fullBlock) {
+        if (this.encoded != null) {
+            throw new IllegalStateException("Shared chunk sections cannot be modified!");
+        }
         checkBounds(x, y, z);
         Preconditions.checkElementIndex(layer, this.storage.length);
         this.storage[layer].setFullBlock(blockPosition(x, y, z), fullBlock);
     }
 
     public void writeToNetwork(ByteBuf buffer) {
+        if (this.encoded != null) {
+            int index = buffer.writerIndex();
+            buffer.writeBytes(this.encoded);
+            // The same section can be shared between different heights
+            buffer.setByte(index + 2, this.subChunkIndex);
+            return;
+        }
+
         buffer.writeByte(CHUNK_SECTION_VERSION);
         buffer.writeByte(this.storage.length);
         // Required for chunk version 9+
@@ -69,6 +92,10 @@ public class GeyserChunkSection {
     }
 
     public int estimateNetworkSize() {
+        if (this.encoded != null) {
+            return this.encoded.length;
+        }
+
         int size = 2; // Version + storage count
         for (BlockStorage blockStorage : this.storage) {
             size += blockStorage.estimateNetworkSize();
@@ -89,6 +116,38 @@ public class GeyserChunkSection {
         return true;
     }
 
+    public boolean isShared() {
+        return this.encoded != null;
+    }
+
+    /**
+     * Creates a version of this section that can be shared between sessions. Its network encoding is computed
+     * once, and it can no longer be modified - use {@link #copy(int)} to obtain a modifiable section.
+     */
+    public GeyserChunkSection toShared() {
+        if (this.encoded != null) {
+            return this;
+        }
+
+        ByteBuf buffer = Unpooled.buffer(estimateNetworkSize());
+        try {
+            writeToNetwork(buffer);
+            return new GeyserChunkSection(this.storage, this.subChunkIndex, ByteBufUtil.getBytes(buffer));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * @return this shared section, placed at a different sub chunk index
+     */
+    public GeyserChunkSection withSubChunkIndex(int subChunkIndex) {
+        if (this.encoded == null) {
+            throw new IllegalStateException("Only shared chunk sections can be moved");
+        }
+        return new GeyserChunkSection(this.storage, subChunkIndex, this.encoded);
+    }
+
     public GeyserChunkSection copy(int subChunkIndex) {
         BlockStorage[] storage = new BlockStorage[this.storage.length];
         for (int i = 0; i < storage.length; i++) {
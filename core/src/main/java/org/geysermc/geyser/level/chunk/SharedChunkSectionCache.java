@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.registry.type.BlockMappings;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.Palette;
+
+import java.util.Arrays;
+
+/**
+ * A cache of translated chunk sections that is shared between all sessions, so identical Java sections
+ * (for example, in a spawn area many players are in) only have to be translated and encoded once per block mappings.
+ * <p>
+ * Only sections whose translation does not depend on their position or neighbouring sections should be stored here.
+ */
+public final class SharedChunkSectionCache {
+    private static final Cache<SectionKey, GeyserChunkSection> CACHE;
+
+    static {
+        long maximumBytes = GeyserImpl.getInstance().getConfig().getChunkSectionCacheSize() * 1024L * 1024L;
+        if (maximumBytes > 0) {
+            CACHE = CacheBuilder.newBuilder()
+                    .maximumWeight(maximumBytes)
+                    .weigher((SectionKey key, GeyserChunkSection section) -> key.weight() + section.estimateNetworkSize() * 2)
+                    .build();
+        } else {
+            CACHE = null;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return CACHE != null;
+    }
+
+    /**
+     * Creates the key for a Java section. The section's data is copied, so the key remains valid if the section is updated later.
+     */
+    public static SectionKey createKey(BlockMappings mappings, Palette palette, BitStorage storage) {
+        int[] states = new int[palette.size()];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = palette.idToState(i);
+        }
+        return new SectionKey(mappings, states, storage.getData().clone());
+    }
+
+    /**
+     * @return the cached translated section, placed at the given sub chunk index, or null if it has not been translated yet
+     */
+    public static @Nullable GeyserChunkSection get(SectionKey key, int subChunkIndex) {
+        GeyserChunkSection section = CACHE.getIfPresent(key);
+        if (section == null) {
+            return null;
+        }
+        return section.withSubChunkIndex(subChunkIndex);
+    }
+
+    /**
+     * Stores a freshly translated section.
+     *
+     * @return the shared version of the section, which should be used instead of the original
+     */
+    public static GeyserChunkSection put(SectionKey key, GeyserChunkSection section) {
+        GeyserChunkSection shared = section.toShared();
+        CACHE.put(key, shared);
+        return shared;
+    }
+
+    private SharedChunkSectionCache() {
+    }
+
+    public static final class SectionKey {
+        /**
+         * Compared by identity; every Bedrock version has its own block mappings instance.
+         */
+        private final BlockMappings mappings;
+        private final int[] states;
+        private final long[] data;
+        private final int hashCode;
+
+        private SectionKey(BlockMappings mappings, int[] states, long[] data) {
+            this.mappings = mappings;
+            this.states = states;
+            this.data = data;
+            this.hashCode = 31 * (31 * System.identityHashCode(mappings) + Arrays.hashCode(states)) + Arrays.hashCode(data);
+        }
+
+        private int weight() {
+            return 64 + states.length * 4 + data.length * 8;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SectionKey other)) {
+                return false;
+            }
+            return hashCode == other.hashCode && mappings == other.mappings
+                    && Arrays.equals(states, other.states) && Arrays.equals(data, other.data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
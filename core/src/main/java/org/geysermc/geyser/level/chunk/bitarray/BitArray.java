@@ -27,6 +27,7 @@ package org.geysermc.geyser.level.chunk.bitarray;
 
 import io.netty.buffer.ByteBuf;
 import org.cloudburstmc.protocol.common.util.VarInts;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
 
 public interface BitArray {
 
@@ -36,6 +37,15 @@ public interface BitArray {
 
     int size();
 
+    /**
+     * Replaces every entry with the entries of a Java chunk section, converting them from the YZX order used by
+     * Java Edition to the XZY order used by Bedrock Edition. This array must hold a whole section, and every value
+     * in the storage must fit into it.
+     */
+    default void setAllFromJava(BitStorage storage) {
+        JavaSectionTranspose.transpose(storage, getVersion(), getWords());
+    }
+
     /**
      * Overridden if the bit array implementation does not require size.
      */
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk.bitarray;
+
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
+
+import java.util.Arrays;
+
+/**
+ * Converts a whole Java chunk section from YZX to XZY order, packing the result a word at a time.
+ */
+final class JavaSectionTranspose {
+    static final int SECTION_SIZE = 4096;
+
+    /**
+     * Holds the unpacked Java entries, in YZX order.
+     */
+    private static final ThreadLocal<int[]> ENTRIES = ThreadLocal.withInitial(() -> new int[SECTION_SIZE]);
+
+    static void transpose(BitStorage storage, BitArrayVersion version, int[] words) {
+        if (storage.getSize() != SECTION_SIZE || words.length != (SECTION_SIZE + version.entriesPerWord - 1) / version.entriesPerWord) {
+            throw new IllegalArgumentException("Both storages must hold a whole chunk section");
+        }
+
+        int javaBits = storage.getBitsPerEntry();
+        if (javaBits == 0) {
+            Arrays.fill(words, 0);
+            return;
+        }
+
+        // Java entries never span two longs, so they can be unpacked in order without any division
+        int[] entries = ENTRIES.get();
+        long[] data = storage.getData();
+        int valuesPerLong = 64 / javaBits;
+        long javaMask = (1L << javaBits) - 1;
+        int index = 0;
+        for (int i = 0; i < data.length && index < SECTION_SIZE; i++) {
+            long value = data[i];
+            int end = Math.min(index + valuesPerLong, SECTION_SIZE);
+            while (index < end) {
+                entries[index++] = (int) (value & javaMask);
+                value >>>= javaBits;
+            }
+        }
+
+        // Walking the Bedrock array in XZY order means every word is built up in a register and written once
+        int bits = version.bits;
+        int entriesPerWord = version.entriesPerWord;
+        int wordIndex = 0;
+        int word = 0;
+        int shift = 0;
+        int count = 0;
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int zx = (z << 4) | x;
+                for (int y = 0; y < 16; y++) {
+                    word |= entries[(y << 8) | zx] << shift;
+                    shift += bits;
+                    if (++count == entriesPerWord) {
+                        words[wordIndex++] = word;
+                        word = 0;
+                        shift = 0;
+                        count = 0;
+                    }
+                }
+            }
+        }
+        if (count != 0) {
+            words[wordIndex] = word;
+        }
+    }
+
+    private JavaSectionTranspose() {
+    }
+}
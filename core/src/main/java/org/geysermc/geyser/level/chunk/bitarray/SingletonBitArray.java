@@ -27,6 +27,7 @@ package org.geysermc.geyser.level.chunk.bitarray;
 
 import io.netty.buffer.ByteBuf;
 import it.unimi.dsi.fastutil.ints.IntArrays;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
 
 public class SingletonBitArray implements BitArray {
     public static final SingletonBitArray INSTANCE = new SingletonBitArray();
@@ -38,6 +39,10 @@ public class SingletonBitArray implements BitArray {
     public void set(int index, int value) {
     }
 
+    @Override
+    public void setAllFromJava(BitStorage storage) {
+    }
+
     @Override
     public int get(int index) {
         return 0;
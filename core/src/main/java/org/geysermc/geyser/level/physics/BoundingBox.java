@@ -61,6 +61,19 @@ public class BoundingBox implements Cloneable {
         extend(extend.getX(), extend.getY(), extend.getZ());
     }
 
+    /**
+     * Copies the position and size of another bounding box into this one
+     */
+    public void set(BoundingBox other) {
+        middleX = other.middleX;
+        middleY = other.middleY;
+        middleZ = other.middleZ;
+
+        sizeX = other.sizeX;
+        sizeY = other.sizeY;
+        sizeZ = other.sizeZ;
+    }
+
     public boolean checkIntersection(double offsetX, double offsetY, double offsetZ, BoundingBox otherBox) {
         return (Math.abs((middleX + offsetX) - otherBox.getMiddleX()) * 2 < (sizeX + otherBox.getSizeX())) &&
                 (Math.abs((middleY + offsetY) - otherBox.getMiddleY()) * 2 < (sizeY + otherBox.getSizeY())) &&
@@ -85,6 +98,22 @@ public class BoundingBox implements Cloneable {
         return Vector3d.from(x, y, z);
     }
 
+    public double getMin(Axis axis) {
+        return switch (axis) {
+            case X -> middleX - sizeX / 2;
+            case Y -> middleY - sizeY / 2;
+            case Z -> middleZ - sizeZ / 2;
+        };
+    }
+
+    public double getMax(Axis axis) {
+        return switch (axis) {
+            case X -> middleX + sizeX / 2;
+            case Y -> middleY + sizeY / 2;
+            case Z -> middleZ + sizeZ / 2;
+        };
+    }
+
     public Vector3d getBottomCenter() {
         return Vector3d.from(middleX, middleY - sizeY / 2, middleZ);
     }
@@ -116,14 +145,14 @@ public class BoundingBox implements Cloneable {
             }
         }
         if (offset > 0) {
-            double min = axis.choose(getMin().add(xOffset, yOffset, zOffset));
-            double max = axis.choose(otherBoundingBox.getMax());
+            double min = axis.choose((middleX - sizeX / 2) + xOffset, (middleY - sizeY / 2) + yOffset, (middleZ - sizeZ / 2) + zOffset);
+            double max = otherBoundingBox.getMax(axis);
             if ((min - max) >= -2.0 * CollisionManager.COLLISION_TOLERANCE) {
                 offset = Math.min(min - max, offset);
             }
         } else if (offset < 0) {
-            double min = axis.choose(otherBoundingBox.getMin());
-            double max = axis.choose(getMax().add(xOffset, yOffset, zOffset));
+            double min = otherBoundingBox.getMin(axis);
+            double max = axis.choose((middleX + sizeX / 2) + xOffset, (middleY + sizeY / 2) + yOffset, (middleZ + sizeZ / 2) + zOffset);
             if ((min - max) >= -2.0 * CollisionManager.COLLISION_TOLERANCE) {
                 offset = Math.max(max - min, offset);
             }
@@ -47,6 +47,7 @@ import org.geysermc.geyser.session.cache.PistonCache;
 import org.geysermc.geyser.translator.collision.BlockCollision;
 import org.geysermc.geyser.translator.collision.ScaffoldingCollision;
 import org.geysermc.geyser.util.BlockUtils;
+import org.geysermc.geyser.util.MathUtils;
 
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
@@ -71,6 +72,14 @@ public class CollisionManager {
     @Setter
     private boolean onScaffolding;
 
+    /**
+     * Reused when correcting movement, since that happens for every movement packet
+     */
+    private final BoundingBox movementBoundingBox = new BoundingBox(0, 0, 0, 0, 0, 0);
+    private final BoundingBox stretchedBoundingBox = new BoundingBox(0, 0, 0, 0, 0, 0);
+    private int[] positionBlocks = new int[0];
+    private int[] movementBlocks = new int[0];
+
     /**
      * Additional space where blocks are checked, which is helpful for fixing NoCheatPlus's Passable check.
      * This check doesn't allow players right up against the block, so they must be pushed slightly away.
@@ -143,12 +152,12 @@ public class CollisionManager {
         if (pistonCache.isPlayerAttachedToHoney()) {
             return null;
         }
-        // We need to parse the float as a string since casting a float to a double causes us to
+        // We need the float's decimal value since casting a float to a double causes us to
         // lose precision and thus, causes players to get stuck when walking near walls
         double javaY = bedrockPosition.getY() - EntityDefinitions.PLAYER.offset();
 
-        Vector3d position = Vector3d.from(Double.parseDouble(Float.toString(bedrockPosition.getX())), javaY,
-                Double.parseDouble(Float.toString(bedrockPosition.getZ())));
+        Vector3d position = Vector3d.from(MathUtils.floatToDecimalDouble(bedrockPosition.getX()), javaY,
+                MathUtils.floatToDecimalDouble(bedrockPosition.getZ()));
 
         Vector3d startingPos = playerBoundingBox.getBottomCenter();
         Vector3d movement = position.sub(startingPos);
@@ -180,12 +189,36 @@ public class CollisionManager {
 
         if (!onGround) {
             // Trim the position to prevent rounding errors that make Java think we are clipping into a block
-            position = Vector3d.from(position.getX(), Double.parseDouble(DECIMAL_FORMAT.format(position.getY())), position.getZ());
+            position = Vector3d.from(position.getX(), trimY(position.getY()), position.getZ());
         }
 
         return position;
     }
 
+    /**
+     * Rounds to five decimal places, the same as formatting with {@link #DECIMAL_FORMAT}. A string is only
+     * formatted when the value is too close to halfway between two results to be sure which way it rounds.
+     */
+    public static double trimY(double y) {
+        double scaled = y * 100000;
+        double rounded = Math.rint(scaled);
+        if (Math.abs(scaled) < 0x1p52 && Math.abs(Math.abs(scaled - rounded) - 0.5) > 4 * Math.ulp(scaled)) {
+            return rounded / 100000;
+        }
+        return Double.parseDouble(DECIMAL_FORMAT.format(y));
+    }
+
+    /**
+     * Looks up the blocks for an iterator into a reused array
+     */
+    private int[] getBlocks(BlockPositionIterator iter, int[] blocks) {
+        if (blocks.length < iter.getMaxIterations()) {
+            blocks = new int[iter.getMaxIterations()];
+        }
+        session.getGeyser().getWorldManager().getBlocksAt(session, iter, blocks);
+        return blocks;
+    }
+
     // TODO: This makes the player look upwards for some reason, rotation values must be wrong
     public void recalculatePosition() {
         PlayerEntity entity = session.getPlayerEntity();
@@ -239,7 +272,7 @@ public class CollisionManager {
 
         // Used when correction code needs to be run before the main correction
         BlockPositionIterator iter = session.getCollisionManager().playerCollidableBlocksIterator();
-        int[] blocks = session.getGeyser().getWorldManager().getBlocksAt(session, iter);
+        int[] blocks = positionBlocks = getBlocks(iter, positionBlocks);
         for (iter.reset(); iter.hasNext(); iter.next()) {
             BlockCollision blockCollision = BlockUtils.getCollision(blocks[iter.getIteration()]);
             if (blockCollision != null) {
@@ -285,7 +318,7 @@ public class CollisionManager {
             Vector3d horizontalMovement = Vector3d.from(movement.getX(), 0, movement.getZ());
             Vector3d stepUpMovement = correctMovementForCollisions(horizontalMovement.up(stepUp), boundingBox, checkWorld);
 
-            BoundingBox stretchedBoundingBox = boundingBox.clone();
+            stretchedBoundingBox.set(boundingBox);
             stretchedBoundingBox.extend(horizontalMovement);
             double maxStepUp = correctMovementForCollisions(Vector3d.from(0, stepUp, 0), stretchedBoundingBox, checkWorld).getY();
             if (maxStepUp < stepUp) { // The player collided with a block above them
@@ -320,24 +353,29 @@ public class CollisionManager {
         double movementY = movement.getY();
         double movementZ = movement.getZ();
 
-        BoundingBox movementBoundingBox = boundingBox.clone();
+        movementBoundingBox.set(boundingBox);
         movementBoundingBox.extend(movement);
         BlockPositionIterator iter = collidableBlocksIterator(movementBoundingBox);
+        // The blocks don't change while checking each axis, so only look them up once
+        int[] blocks = null;
+        if (checkWorld) {
+            blocks = movementBlocks = getBlocks(iter, movementBlocks);
+        }
         if (Math.abs(movementY) > CollisionManager.COLLISION_TOLERANCE) {
-            movementY = computeCollisionOffset(boundingBox, Axis.Y, movementY, iter, checkWorld);
+            movementY = computeCollisionOffset(boundingBox, Axis.Y, movementY, iter, blocks);
             boundingBox.translate(0, movementY, 0);
         }
         boolean checkZFirst = Math.abs(movementZ) > Math.abs(movementX);
         if (checkZFirst && Math.abs(movementZ) > CollisionManager.COLLISION_TOLERANCE) {
-            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, checkWorld);
+            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, blocks);
             boundingBox.translate(0, 0, movementZ);
         }
         if (Math.abs(movementX) > CollisionManager.COLLISION_TOLERANCE) {
-            movementX = computeCollisionOffset(boundingBox, Axis.X, movementX, iter, checkWorld);
+            movementX = computeCollisionOffset(boundingBox, Axis.X, movementX, iter, blocks);
             boundingBox.translate(movementX, 0, 0);
         }
         if (!checkZFirst && Math.abs(movementZ) > CollisionManager.COLLISION_TOLERANCE) {
-            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, checkWorld);
+            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, blocks);
             boundingBox.translate(0, 0, movementZ);
         }
 
@@ -345,18 +383,22 @@ public class CollisionManager {
         return Vector3d.from(movementX, movementY, movementZ);
     }
 
-    private double computeCollisionOffset(BoundingBox boundingBox, Axis axis, double offset, BlockPositionIterator iter, boolean checkWorld) {
+    /**
+     * @param blocks the blocks of the iterator to collide with, or null to only check moving blocks
+     */
+    private double computeCollisionOffset(BoundingBox boundingBox, Axis axis, double offset, BlockPositionIterator iter, int[] blocks) {
+        PistonCache pistonCache = session.getPistonCache();
         for (iter.reset(); iter.hasNext(); iter.next()) {
             int x = iter.getX();
             int y = iter.getY();
             int z = iter.getZ();
-            if (checkWorld) {
-                BlockCollision blockCollision = BlockUtils.getCollisionAt(session, x, y, z);
+            if (blocks != null) {
+                BlockCollision blockCollision = BlockUtils.getCollision(blocks[iter.getIteration()]);
                 if (blockCollision != null && !(blockCollision instanceof ScaffoldingCollision)) {
                     offset = blockCollision.computeCollisionOffset(x, y, z, boundingBox, axis, offset);
                 }
             }
-            offset = session.getPistonCache().computeCollisionOffset(Vector3i.from(x, y, z), boundingBox, axis, offset);
+            offset = pistonCache.computeCollisionOffset(x, y, z, boundingBox, axis, offset);
             if (Math.abs(offset) < COLLISION_TOLERANCE) {
                 return 0;
             }
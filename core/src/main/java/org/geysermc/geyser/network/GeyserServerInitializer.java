@@ -34,6 +34,7 @@ import org.cloudburstmc.protocol.bedrock.BedrockServerSession;
 import org.cloudburstmc.protocol.bedrock.netty.codec.packet.BedrockPacketCodec;
 import org.cloudburstmc.protocol.bedrock.netty.initializer.BedrockServerInitializer;
 import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.network.netty.handler.PacketMetricsHandler;
 import org.geysermc.geyser.session.GeyserSession;
 
 import java.net.InetSocketAddress;
@@ -66,6 +67,9 @@ public class GeyserServerInitializer extends BedrockServerInitializer {
 
             Channel channel = bedrockServerSession.getPeer().getChannel();
             channel.pipeline().addAfter(BedrockPacketCodec.NAME, InvalidPacketHandler.NAME, new InvalidPacketHandler(session));
+            if (this.geyser.getConfig().isPacketMetrics()) {
+                channel.pipeline().addFirst(PacketMetricsHandler.NAME, new PacketMetricsHandler(session.packetMetrics(), true));
+            }
 
             bedrockServerSession.setPacketHandler(new UpstreamPacketHandler(this.geyser, session));
         } catch (Throwable e) {
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.cloudburstmc.protocol.bedrock.codec.BedrockCodec;
+import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
+import org.cloudburstmc.protocol.bedrock.packet.UnknownPacket;
+import org.geysermc.geyser.session.GeyserSession;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Packets that are sent to every session on join and are identical for every session on the same Bedrock version,
+ * such as the biome definitions and creative inventory. These are encoded once per {@link BedrockCodec}, and every
+ * session after that is sent the same bytes.
+ */
+public final class PreEncodedPackets {
+    private static final Map<Key, Encoded> PAYLOADS = new ConcurrentHashMap<>();
+
+    /**
+     * Gets a packet that writes the cached encoding of the given join packet, encoding it the first time it is requested
+     * for the session's Bedrock version.
+     *
+     * @param session the session the packet will be sent to
+     * @param id which join packet this is; every id stands for one fixed packet content
+     * @param factory creates the packet if it has not been encoded for this Bedrock version yet. Its content may
+     *                only depend on the Bedrock version and on data that does not change while Geyser is running.
+     */
+    public static BedrockPacket get(GeyserSession session, Id id, Supplier<? extends BedrockPacket> factory) {
+        BedrockCodec codec = session.getUpstream().getSession().getCodec();
+        Encoded encoded = PAYLOADS.computeIfAbsent(new Key(codec, id), key -> {
+            BedrockPacket packet = factory.get();
+            ByteBuf buffer = Unpooled.buffer();
+            codec.tryEncode(session.getUpstream().getCodecHelper(), buffer, packet);
+            return new Encoded(codec.getPacketDefinition(packet.getClass()).getId(), Unpooled.unreleasableBuffer(buffer.asReadOnly()));
+        });
+
+        UnknownPacket packet = new UnknownPacket();
+        packet.setPacketId(encoded.packetId());
+        packet.setPayload(encoded.payload().duplicate());
+        return packet;
+    }
+
+    private PreEncodedPackets() {
+    }
+
+    /**
+     * The packets that are cached. The packet type alone does not say what a packet contains, so each cached
+     * content has its own id.
+     */
+    public enum Id {
+        ITEM_COMPONENTS,
+        BIOME_DEFINITIONS,
+        ENTITY_IDENTIFIERS,
+        CAMERA_PRESETS,
+        CREATIVE_CONTENT,
+        POTION_MIXES
+    }
+
+    private record Encoded(int packetId, ByteBuf payload) {
+    }
+
+    /**
+     * Codecs are compared by identity; there is one for every supported Bedrock version.
+     */
+    private record Key(BedrockCodec codec, Id id) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && codec == key.codec && id == key.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(codec) + id.hashCode();
+        }
+    }
+}
@@ -61,6 +61,8 @@ import org.geysermc.geyser.api.pack.ResourcePack;
 import org.geysermc.geyser.api.pack.ResourcePackManifest;
 import org.geysermc.geyser.event.type.SessionLoadResourcePacksEventImpl;
 import org.geysermc.geyser.pack.GeyserResourcePack;
+import org.geysermc.geyser.pack.ResourcePackDataCache;
+import org.geysermc.geyser.pack.ResourcePackDownloadScheduler;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.session.GeyserSession;
@@ -71,17 +73,13 @@ import org.geysermc.geyser.util.MathUtils;
 import org.geysermc.geyser.util.VersionCheckUtils;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.nio.channels.SeekableByteChannel;
-import java.util.ArrayDeque;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.OptionalInt;
 
 public class UpstreamPacketHandler extends LoggingPacketHandler {
 
     private boolean networkSettingsRequested = false;
-    private final Deque<String> packsToSent = new ArrayDeque<>();
+    private final ResourcePackDownloadScheduler packDownloadScheduler;
     private final CompressionStrategy compressionStrategy;
 
     private SessionLoadResourcePacksEventImpl resourcePackLoadEvent;
@@ -92,6 +90,7 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
         ZlibCompression compression = new ZlibCompression(Zlib.RAW);
         compression.setLevel(this.geyser.getConfig().getBedrock().getCompressionLevel());
         this.compressionStrategy = new SimpleCompressionStrategy(compression);
+        this.packDownloadScheduler = new ResourcePackDownloadScheduler(session);
     }
 
     private PacketSignal translateAndDefault(BedrockPacket packet) {
@@ -139,6 +138,8 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
 
     @Override
     public void onDisconnect(String reason) {
+        this.packDownloadScheduler.close();
+
         // Use our own disconnect messages for these reasons
         if (BedrockDisconnectReasons.CLOSED.equals(reason)) {
             this.session.getUpstream().getSession().setDisconnectReason(GeyserLocale.getLocaleStringLog("geyser.network.disconnect.closed_by_remote_peer"));
@@ -232,8 +233,10 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
                 break;
 
             case SEND_PACKS:
-                packsToSent.addAll(packet.getPackIds());
-                sendPackDataInfo(packsToSent.pop());
+                // Announce every pack at once, so the client can download them all without waiting on each other
+                for (String packId : packet.getPackIds()) {
+                    sendPackDataInfo(packId);
+                }
                 break;
 
             case HAVE_ALL_PACKS:
@@ -310,32 +313,29 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
     public PacketSignal handle(ResourcePackChunkRequestPacket packet) {
         ResourcePackChunkDataPacket data = new ResourcePackChunkDataPacket();
         ResourcePack pack = this.resourcePackLoadEvent.getPacks().get(packet.getPackId().toString());
-        PackCodec codec = pack.codec();
 
         data.setChunkIndex(packet.getChunkIndex());
         data.setProgress((long) packet.getChunkIndex() * GeyserResourcePack.CHUNK_SIZE);
         data.setPackVersion(packet.getPackVersion());
         data.setPackId(packet.getPackId());
 
-        int offset = packet.getChunkIndex() * GeyserResourcePack.CHUNK_SIZE;
-        long remainingSize = codec.size() - offset;
-        byte[] packData = new byte[(int) MathUtils.constrain(remainingSize, 0, GeyserResourcePack.CHUNK_SIZE)];
-
-        try (SeekableByteChannel channel = codec.serialize(pack)) {
-            channel.position(offset);
-            channel.read(ByteBuffer.wrap(packData, 0, packData.length));
-        } catch (IOException e) {
-            e.printStackTrace();
+        long offset = (long) packet.getChunkIndex() * GeyserResourcePack.CHUNK_SIZE;
+        long remainingSize = ResourcePackDataCache.size(pack) - offset;
+        int length = (int) MathUtils.constrain(remainingSize, 0, GeyserResourcePack.CHUNK_SIZE);
+
+        if (packet.getChunkIndex() < 0 || length == 0) {
+            // The client asked for a chunk past the end of the pack
+            data.setData(Unpooled.EMPTY_BUFFER);
+        } else {
+            try {
+                data.setData(ResourcePackDataCache.readChunk(pack, offset, length));
+            } catch (IOException e) {
+                e.printStackTrace();
+                data.setData(Unpooled.wrappedBuffer(new byte[length]));
+            }
         }
 
-        data.setData(Unpooled.wrappedBuffer(packData));
-
-        session.sendUpstreamPacket(data);
-
-        // Check if it is the last chunk and send next pack in queue when available.
-        if (remainingSize <= GeyserResourcePack.CHUNK_SIZE && !packsToSent.isEmpty()) {
-            sendPackDataInfo(packsToSent.pop());
-        }
+        packDownloadScheduler.send(data);
 
         return PacketSignal.HANDLED;
     }
@@ -346,6 +346,7 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
         ResourcePack pack = this.resourcePackLoadEvent.getPacks().get(packID[0]);
         PackCodec codec = pack.codec();
         ResourcePackManifest.Header header = pack.manifest().header();
+        ResourcePackDataCache.validate(pack);
 
         data.setPackId(header.uuid());
         int chunkCount = (int) Math.ceil(codec.size() / (double) GeyserResourcePack.CHUNK_SIZE);
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.metrics;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.api.network.PacketMetrics;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.SessionManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Packet metrics of either one session, or all sessions combined. Everything recorded for a session is also
+ * recorded in the combined metrics, which are the only ones that keep the distribution of translation times.
+ */
+public final class GeyserPacketMetrics implements PacketMetrics {
+    private final @Nullable GeyserPacketMetrics combined;
+    /**
+     * The event loop of the session, which is shared with other sessions. Null for the combined metrics.
+     */
+    private final @Nullable EventExecutor eventLoop;
+    private final IntSupplier pendingTasks;
+
+    private final Map<Class<?>, GeyserPacketStatistics> bedrockPackets = new ConcurrentHashMap<>();
+    private final Map<Class<?>, GeyserPacketStatistics> javaPackets = new ConcurrentHashMap<>();
+
+    private final LongAdder bedrockBytesReceived = new LongAdder();
+    private final LongAdder bedrockBytesSent = new LongAdder();
+    private final LongAdder javaBytesReceived = new LongAdder();
+    private final LongAdder javaBytesSent = new LongAdder();
+
+    private GeyserPacketMetrics(@Nullable GeyserPacketMetrics combined, @Nullable EventExecutor eventLoop, IntSupplier pendingTasks) {
+        this.combined = combined;
+        this.eventLoop = eventLoop;
+        this.pendingTasks = pendingTasks;
+    }
+
+    /**
+     * @return metrics that all sessions of the session manager add to
+     */
+    public static GeyserPacketMetrics combined(SessionManager sessionManager) {
+        return new GeyserPacketMetrics(null, null, () -> {
+            // Sessions share event loops, so each loop is only counted once
+            Set<EventExecutor> eventLoops = Collections.newSetFromMap(new IdentityHashMap<>());
+            int pendingTasks = 0;
+            for (GeyserSession session : sessionManager.getAllSessions()) {
+                EventExecutor eventLoop = session.packetMetrics().eventLoop;
+                if (eventLoop != null && eventLoops.add(eventLoop)) {
+                    pendingTasks += pendingTasks(eventLoop);
+                }
+            }
+            return pendingTasks;
+        });
+    }
+
+    /**
+     * @param eventLoop the event loop that the session's packets are translated on
+     * @return metrics for one session, which also add to these metrics
+     */
+    public GeyserPacketMetrics forSession(EventExecutor eventLoop) {
+        return new GeyserPacketMetrics(this, eventLoop, () -> pendingTasks(eventLoop));
+    }
+
+    private static int pendingTasks(EventExecutor eventLoop) {
+        return eventLoop instanceof SingleThreadEventExecutor executor ? executor.pendingTasks() : 0;
+    }
+
+    /**
+     * Records how long a packet took to translate.
+     */
+    public void recordTranslation(Object packet, long nanos) {
+        boolean bedrock = packet instanceof BedrockPacket;
+        (bedrock ? bedrockPackets : javaPackets)
+                .computeIfAbsent(packet.getClass(), clazz -> new GeyserPacketStatistics(clazz.getSimpleName(), combined == null))
+                .record(nanos);
+        if (combined != null) {
+            combined.recordTranslation(packet, nanos);
+        }
+    }
+
+    public void recordBytesReceived(boolean bedrock, int bytes) {
+        (bedrock ? bedrockBytesReceived : javaBytesReceived).add(bytes);
+        if (combined != null) {
+            combined.recordBytesReceived(bedrock, bytes);
+        }
+    }
+
+    public void recordBytesSent(boolean bedrock, int bytes) {
+        (bedrock ? bedrockBytesSent : javaBytesSent).add(bytes);
+        if (combined != null) {
+            combined.recordBytesSent(bedrock, bytes);
+        }
+    }
+
+    @Override
+    public boolean enabled() {
+        return GeyserImpl.getInstance().getConfig().isPacketMetrics();
+    }
+
+    @Override
+    public @NonNull Collection<GeyserPacketStatistics> bedrockPackets() {
+        return Collections.unmodifiableCollection(bedrockPackets.values());
+    }
+
+    @Override
+    public @NonNull Collection<GeyserPacketStatistics> javaPackets() {
+        return Collections.unmodifiableCollection(javaPackets.values());
+    }
+
+    @Override
+    public long bedrockBytesReceived() {
+        return bedrockBytesReceived.sum();
+    }
+
+    @Override
+    public long bedrockBytesSent() {
+        return bedrockBytesSent.sum();
+    }
+
+    @Override
+    public long javaBytesReceived() {
+        return javaBytesReceived.sum();
+    }
+
+    @Override
+    public long javaBytesSent() {
+        return javaBytesSent.sum();
+    }
+
+    @Override
+    public int pendingTasks() {
+        return pendingTasks.getAsInt();
+    }
+}
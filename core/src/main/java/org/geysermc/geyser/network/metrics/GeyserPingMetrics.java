@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.metrics;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.net.InetAddress;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts unconnected pings, how many of them were answered with a cached pong, and how often each source pings.
+ */
+public final class GeyserPingMetrics {
+    /**
+     * Sources are forgotten a minute after their first ping, so the rate covers at most the last minute.
+     */
+    private static final long SOURCE_WINDOW_MINUTES = 1;
+
+    private final LongAdder pings = new LongAdder();
+    private final LongAdder cachedPongs = new LongAdder();
+
+    private final Cache<InetAddress, SourceRate> sources = CacheBuilder.newBuilder()
+            .maximumSize(1024)
+            .expireAfterWrite(SOURCE_WINDOW_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    public void recordPing(InetAddress source, boolean cached) {
+        pings.increment();
+        if (cached) {
+            cachedPongs.increment();
+        }
+
+        try {
+            sources.get(source, () -> new SourceRate(source)).count.increment();
+        } catch (ExecutionException e) {
+            // Cannot happen, creating a SourceRate does not throw
+            throw new AssertionError(e);
+        }
+    }
+
+    public long pings() {
+        return pings.sum();
+    }
+
+    public long cachedPongs() {
+        return cachedPongs.sum();
+    }
+
+    /**
+     * @return the sources that pinged most often per second recently, fastest first
+     */
+    public List<SourceRate> topSources(int limit) {
+        return sources.asMap().values().stream()
+                .sorted(Comparator.comparingDouble(SourceRate::perSecond).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public static final class SourceRate {
+        private final InetAddress address;
+        private final long since = System.nanoTime();
+        private final LongAdder count = new LongAdder();
+
+        private SourceRate(InetAddress address) {
+            this.address = address;
+        }
+
+        public InetAddress address() {
+            return address;
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public double perSecond() {
+            // At least a second, so a single ping isn't reported as a huge rate
+            double seconds = Math.max(1, (System.nanoTime() - since) / 1_000_000_000.0);
+            return count() / seconds;
+        }
+    }
+}
@@ -26,6 +26,8 @@
 package org.geysermc.geyser.network.netty;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.EventLoopGroup;
@@ -45,6 +47,7 @@ import io.netty.util.concurrent.Future;
 import lombok.Getter;
 import net.jodah.expiringmap.ExpirationPolicy;
 import net.jodah.expiringmap.ExpiringMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.netty.channel.raknet.RakChannelFactory;
 import org.cloudburstmc.netty.channel.raknet.config.RakChannelOption;
 import org.cloudburstmc.netty.handler.codec.raknet.server.RakServerOfflineHandler;
@@ -52,17 +55,20 @@ import org.cloudburstmc.netty.handler.codec.raknet.server.RakServerRateLimiter;
 import org.cloudburstmc.protocol.bedrock.BedrockPong;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.event.connection.ConnectionRequestEvent;
+import org.geysermc.geyser.api.event.connection.GeyserBedrockPingEvent;
 import org.geysermc.geyser.command.defaults.ConnectionTestCommand;
 import org.geysermc.geyser.configuration.GeyserConfiguration;
 import org.geysermc.geyser.event.type.GeyserBedrockPingEventImpl;
 import org.geysermc.geyser.network.CIDRMatcher;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.network.GeyserServerInitializer;
+import org.geysermc.geyser.network.metrics.GeyserPingMetrics;
 import org.geysermc.geyser.network.netty.handler.RakConnectionRequestHandler;
 import org.geysermc.geyser.network.netty.handler.RakPingHandler;
 import org.geysermc.geyser.network.netty.proxy.ProxyServerHandler;
 import org.geysermc.geyser.ping.GeyserPingInfo;
 import org.geysermc.geyser.ping.IGeyserPingPassthrough;
+import org.geysermc.geyser.session.ChunkTranslationPipeline;
 import org.geysermc.geyser.skin.SkinProvider;
 import org.geysermc.geyser.text.GeyserLocale;
 import org.geysermc.geyser.translator.text.MessageTranslator;
@@ -121,6 +127,11 @@ public final class GeyserServer {
      */
     private final int broadcastPort;
 
+    @Getter
+    private final GeyserPingMetrics pingMetrics = new GeyserPingMetrics();
+    private volatile CachedPong cachedPong;
+    private volatile MotdLines motdLines;
+
     public GeyserServer(GeyserImpl geyser, int threadCount) {
         this.geyser = geyser;
         this.listenCount = Bootstraps.isReusePortAvailable() ?  Integer.getInteger("Geyser.ListenCount", 2) : 1;
@@ -196,6 +207,7 @@ public final class GeyserServer {
             futurePlayerGroup.sync();
 
             SkinProvider.shutdown();
+            ChunkTranslationPipeline.shutdown();
         } catch (InterruptedException e) {
             GeyserImpl.getInstance().getLogger().severe("Exception in shutdown process", e);
         }
@@ -286,30 +298,78 @@ public final class GeyserServer {
         return true;
     }
 
-    public BedrockPong onQuery(Channel channel, InetSocketAddress inetSocketAddress) {
-        if (geyser.getConfig().isDebugMode() && PRINT_DEBUG_PINGS) {
-            String ip;
-            if (geyser.getConfig().isLogPlayerIpAddresses()) {
-                if (geyser.getConfig().getBedrock().isEnableProxyProtocol()) {
-                    ip = this.proxiedAddresses.getOrDefault(inetSocketAddress, inetSocketAddress).toString();
-                } else {
-                    ip = inetSocketAddress.toString();
-                }
-            } else {
-                ip = "<IP address withheld>";
-            }
+    /**
+     * @return the encoded pong to reply to an unconnected ping with. Without ping event listeners, the last pong is
+     * reused for as long as nothing that goes into it changes.
+     */
+    public ByteBuf getPongPayload(Channel channel, InetSocketAddress inetSocketAddress) {
+        GeyserConfiguration config = geyser.getConfig();
+        InetSocketAddress source = inetSocketAddress;
+        if (config.getBedrock().isEnableProxyProtocol()) {
+            source = this.proxiedAddresses.getOrDefault(inetSocketAddress, inetSocketAddress);
+        }
+
+        if (config.isDebugMode() && PRINT_DEBUG_PINGS) {
+            String ip = config.isLogPlayerIpAddresses() ? source.toString() : "<IP address withheld>";
             geyser.getLogger().debug(GeyserLocale.getLocaleStringLog("geyser.network.pinged", ip));
         }
 
-        GeyserConfiguration config = geyser.getConfig();
+        GeyserPingInfo pingInfo = getPingInfo(inetSocketAddress);
+
+        // Listeners may change the pong for each address, so it can only be reused when there are none
+        if (!this.geyser.eventBus().subscribers(GeyserBedrockPingEvent.class).isEmpty()) {
+            recordPing(source, false);
+            return onQuery(channel, inetSocketAddress, pingInfo).toByteBuf();
+        }
+
+        PongState state = new PongState(
+                channel.config().getOption(RakChannelOption.RAK_GUID),
+                config.isPassthroughMotd() && pingInfo != null ? pingInfo.getDescription() : null,
+                config.isPassthroughPlayerCounts() && pingInfo != null ? pingInfo.getPlayers().getOnline() : geyser.getSessionManager().getSessions().size(),
+                config.isPassthroughPlayerCounts() && pingInfo != null ? pingInfo.getPlayers().getMax() : config.getMaxPlayers(),
+                ConnectionTestCommand.CONNECTION_TEST_MOTD
+        );
+        CachedPong cachedPong = this.cachedPong;
+        if (cachedPong != null && cachedPong.state().equals(state)) {
+            recordPing(source, true);
+            return cachedPong.payload().duplicate();
+        }
 
-        GeyserPingInfo pingInfo = null;
+        ByteBuf encoded = onQuery(channel, inetSocketAddress, pingInfo).toByteBuf();
+        try {
+            // Never released, so every reply can share it
+            ByteBuf payload = Unpooled.unreleasableBuffer(Unpooled.copiedBuffer(encoded).asReadOnly());
+            this.cachedPong = new CachedPong(state, payload);
+            recordPing(source, false);
+            return payload.duplicate();
+        } finally {
+            encoded.release();
+        }
+    }
+
+    private void recordPing(InetSocketAddress source, boolean cached) {
+        if (geyser.getConfig().isPacketMetrics()) {
+            this.pingMetrics.recordPing(source.getAddress(), cached);
+        }
+    }
+
+    private @Nullable GeyserPingInfo getPingInfo(InetSocketAddress inetSocketAddress) {
+        GeyserConfiguration config = geyser.getConfig();
         if (config.isPassthroughMotd() || config.isPassthroughPlayerCounts()) {
             IGeyserPingPassthrough pingPassthrough = geyser.getBootstrap().getGeyserPingPassthrough();
             if (pingPassthrough != null) {
-                pingInfo = pingPassthrough.getPingInformation(inetSocketAddress);
+                return pingPassthrough.getPingInformation(inetSocketAddress);
             }
         }
+        return null;
+    }
+
+    public BedrockPong onQuery(Channel channel, InetSocketAddress inetSocketAddress) {
+        return onQuery(channel, inetSocketAddress, getPingInfo(inetSocketAddress));
+    }
+
+    private BedrockPong onQuery(Channel channel, InetSocketAddress inetSocketAddress, @Nullable GeyserPingInfo pingInfo) {
+        GeyserConfiguration config = geyser.getConfig();
 
         BedrockPong pong = new BedrockPong()
                 .edition("MCPE")
@@ -322,7 +382,7 @@ public final class GeyserServer {
                 .serverId(channel.config().getOption(RakChannelOption.RAK_GUID));
 
         if (config.isPassthroughMotd() && pingInfo != null && pingInfo.getDescription() != null) {
-            String[] motd = MessageTranslator.convertMessageLenient(pingInfo.getDescription()).split("\n");
+            String[] motd = getMotdLines(pingInfo.getDescription());
             String mainMotd = (motd.length > 0) ? motd[0] : config.getBedrock().primaryMotd(); // First line of the motd.
             String subMotd = (motd.length > 1) ? motd[1] : config.getBedrock().secondaryMotd(); // Second line of the motd if present, otherwise default.
 
@@ -390,6 +450,30 @@ public final class GeyserServer {
         return pong;
     }
 
+    /**
+     * @return the MOTD lines of the passthrough description, which is usually the same from ping to ping
+     */
+    private String[] getMotdLines(String description) {
+        MotdLines motdLines = this.motdLines;
+        if (motdLines == null || !motdLines.description().equals(description)) {
+            String[] lines = MessageTranslator.convertMessageLenient(description).split("\n");
+            this.motdLines = motdLines = new MotdLines(description, lines);
+        }
+        return motdLines.lines();
+    }
+
+    /**
+     * Everything that a pong depends on when no ping event listener changes it.
+     */
+    private record PongState(long serverId, @Nullable String description, int playerCount, int maxPlayerCount, @Nullable String connectionTestMotd) {
+    }
+
+    private record CachedPong(PongState state, ByteBuf payload) {
+    }
+
+    private record MotdLines(String description, String[] lines) {
+    }
+
     /**
      * @return the throwable from the given supplier, or the throwable caught while calling the supplier.
      */
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.pack;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.api.pack.PackCodec;
+import org.geysermc.geyser.api.pack.PathPackCodec;
+import org.geysermc.geyser.api.pack.ResourcePack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+
+/**
+ * Keeps the contents of resource packs in memory while clients download them, so every chunk request is served
+ * as a slice of the same buffer instead of opening and reading the pack again.
+ * <p>
+ * Packs are read once into a direct buffer. They are not memory mapped, as a pack file being replaced or truncated
+ * while mapped would crash the server. The buffers are never released explicitly - evicted packs are freed once no
+ * chunk packet refers to them anymore.
+ */
+public final class ResourcePackDataCache {
+    private static final long MAXIMUM_BYTES = GeyserImpl.getInstance().getConfig().getResourcePackCacheSize() * 1024L * 1024L;
+    /**
+     * Codecs are compared by identity.
+     */
+    private static final WeightedLruCache<PackCodec, PackData> CACHE = MAXIMUM_BYTES > 0 ?
+            new WeightedLruCache<>(MAXIMUM_BYTES, data -> data.data().limit()) : null;
+
+    /**
+     * @return the given range of the pack's data, or an empty buffer if the range is not within the pack
+     */
+    public static ByteBuf readChunk(ResourcePack pack, long offset, int length) throws IOException {
+        if (offset < 0 || length <= 0) {
+            return Unpooled.EMPTY_BUFFER;
+        }
+
+        PackData data = getData(pack);
+        if (data != null) {
+            ByteBuffer buffer = data.data();
+            if (offset >= buffer.limit()) {
+                return Unpooled.EMPTY_BUFFER;
+            }
+            return Unpooled.wrappedBuffer(buffer.slice((int) offset, (int) Math.min(length, buffer.limit() - offset)));
+        }
+
+        byte[] packData = new byte[length];
+        int read = 0;
+        try (SeekableByteChannel channel = pack.codec().serialize(pack)) {
+            channel.position(offset);
+            read = Math.max(0, channel.read(ByteBuffer.wrap(packData, 0, packData.length)));
+        }
+        return Unpooled.wrappedBuffer(packData, 0, read);
+    }
+
+    /**
+     * @return the size of the pack, without checking the pack itself again if it is in memory
+     */
+    public static long size(ResourcePack pack) {
+        if (CACHE != null) {
+            PackData data = CACHE.get(pack.codec());
+            if (data != null) {
+                return data.data().limit();
+            }
+        }
+        return pack.codec().size();
+    }
+
+    /**
+     * Forgets the pack's data if the pack has changed since it was loaded. Called before a client starts downloading a pack.
+     */
+    public static void validate(ResourcePack pack) {
+        if (CACHE == null) {
+            return;
+        }
+        PackData data = CACHE.get(pack.codec());
+        if (data != null && (data.data().limit() != pack.codec().size() || !Objects.equals(data.lastModified(), lastModified(pack.codec())))) {
+            CACHE.invalidate(pack.codec());
+        }
+    }
+
+    private static @Nullable PackData getData(ResourcePack pack) throws IOException {
+        if (CACHE == null) {
+            return null;
+        }
+
+        PackCodec codec = pack.codec();
+        PackData data = CACHE.get(codec);
+        if (data != null) {
+            return data;
+        }
+
+        long size = codec.size();
+        if (size > MAXIMUM_BYTES || size > Integer.MAX_VALUE) {
+            return null;
+        }
+
+        return CACHE.putIfAbsent(codec, load(pack, size));
+    }
+
+    private static PackData load(ResourcePack pack, long size) throws IOException {
+        PackCodec codec = pack.codec();
+        // Taken before reading, so a change while reading is noticed the next time the pack is validated
+        FileTime lastModified = lastModified(codec);
+
+        ByteBuffer data = ByteBuffer.allocateDirect((int) size);
+        try (SeekableByteChannel channel = codec.serialize(pack)) {
+            while (data.hasRemaining() && channel.read(data) != -1) {
+                // Keep reading until the whole pack is in memory
+            }
+        }
+        data.flip();
+        return new PackData(data.asReadOnlyBuffer(), lastModified);
+    }
+
+    private static @Nullable FileTime lastModified(PackCodec codec) {
+        if (codec instanceof PathPackCodec pathCodec) {
+            try {
+                return Files.getLastModifiedTime(pathCodec.path());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param lastModified when the pack file was last modified when it was loaded, or null if the pack is not a file
+     */
+    private record PackData(ByteBuffer data, @Nullable FileTime lastModified) {
+    }
+
+    private ResourcePackDataCache() {
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.pack;
+
+import org.cloudburstmc.protocol.bedrock.packet.ResourcePackChunkDataPacket;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.session.GeyserSession;
+
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends resource pack chunks to a client as it requests them, keeping all clients together under the configured
+ * download limit.
+ * <p>
+ * Each client may have a few chunks scheduled at once. Further requests wait until one of those has been sent,
+ * so a client requesting a whole pack at once doesn't push back everyone who requests chunks after it.
+ */
+public final class ResourcePackDownloadScheduler {
+    private static final int MAX_SCHEDULED_CHUNKS = 4;
+    private static final long BYTES_PER_SECOND = GeyserImpl.getInstance().getConfig().getResourcePackDownloadLimit() * 1024L;
+
+    /**
+     * When the download limit next allows data to be sent, shared between all clients.
+     */
+    private static long nextSendNanos = 0;
+
+    private final GeyserSession session;
+    private final Queue<ResourcePackChunkDataPacket> pendingChunks = new ArrayDeque<>();
+    /**
+     * Chunks waiting for their turn under the download limit, with the task that sends them.
+     */
+    private final Map<ResourcePackChunkDataPacket, ScheduledFuture<?>> scheduledChunks = new IdentityHashMap<>();
+    private boolean closed = false;
+
+    public ResourcePackDownloadScheduler(GeyserSession session) {
+        this.session = session;
+    }
+
+    public synchronized void send(ResourcePackChunkDataPacket packet) {
+        if (closed) {
+            return;
+        }
+        if (BYTES_PER_SECOND <= 0) {
+            session.sendUpstreamPacket(packet);
+            return;
+        }
+
+        pendingChunks.add(packet);
+        scheduleChunks();
+    }
+
+    private void scheduleChunks() {
+        ResourcePackChunkDataPacket packet;
+        while (scheduledChunks.size() < MAX_SCHEDULED_CHUNKS && (packet = pendingChunks.poll()) != null) {
+            long delay = reserve(packet.getData().readableBytes());
+            ResourcePackChunkDataPacket finalPacket = packet;
+            scheduledChunks.put(packet, session.scheduleInEventLoop(() -> sent(finalPacket), delay, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private synchronized void sent(ResourcePackChunkDataPacket packet) {
+        if (scheduledChunks.remove(packet) == null || closed || session.isClosed()) {
+            return;
+        }
+        session.sendUpstreamPacket(packet);
+        scheduleChunks();
+    }
+
+    /**
+     * Drops all chunks that have not been sent yet, and gives the time reserved for them back to other clients.
+     * Called when the session disconnects.
+     */
+    public synchronized void close() {
+        closed = true;
+        pendingChunks.clear();
+
+        int unsentBytes = 0;
+        for (Map.Entry<ResourcePackChunkDataPacket, ScheduledFuture<?>> entry : scheduledChunks.entrySet()) {
+            if (entry.getValue().cancel(false)) {
+                unsentBytes += entry.getKey().getData().readableBytes();
+            }
+        }
+        scheduledChunks.clear();
+        release(unsentBytes);
+    }
+
+    /**
+     * @return how long to wait before sending this many bytes
+     */
+    private static synchronized long reserve(int bytes) {
+        long now = System.nanoTime();
+        long start = Math.max(now, nextSendNanos);
+        nextSendNanos = start + bytes * TimeUnit.SECONDS.toNanos(1) / BYTES_PER_SECOND;
+        return start - now;
+    }
+
+    /**
+     * Gives back time reserved for bytes that will not be sent after all.
+     */
+    private static synchronized void release(int bytes) {
+        if (bytes > 0) {
+            nextSendNanos = Math.max(System.nanoTime(), nextSendNanos - bytes * TimeUnit.SECONDS.toNanos(1) / BYTES_PER_SECOND);
+        }
+    }
+}
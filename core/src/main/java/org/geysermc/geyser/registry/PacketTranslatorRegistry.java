@@ -50,8 +50,14 @@ public class PacketTranslatorRegistry<T> extends AbstractMappedRegistry<Class<?
         IGNORED_PACKETS.add(ClientboundTabListPacket.class); // Cant be implemented in Bedrock
     }
 
-    protected PacketTranslatorRegistry() {
+    /**
+     * If packets must wait for chunks that are still being translated off of the event loop.
+     */
+    private final boolean sequenced;
+
+    protected PacketTranslatorRegistry(boolean sequenced) {
         super(null, RegistryLoaders.empty(IdentityHashMap::new));
+        this.sequenced = sequenced;
     }
 
     @SuppressWarnings("unchecked")
@@ -85,8 +91,19 @@ public class PacketTranslatorRegistry<T> extends AbstractMappedRegistry<Class<?
             return;
         }
 
+        if (sequenced && session.getEventLoop().inEventLoop()
+                && session.getChunkTranslationPipeline().defer(packet, () -> translate0(session, translator, packet))) {
+            return;
+        }
+
         try {
-            translator.translate(session, packet);
+            if (GeyserImpl.getInstance().getConfig().isPacketMetrics()) {
+                long start = System.nanoTime();
+                translator.translate(session, packet);
+                session.packetMetrics().recordTranslation(packet, System.nanoTime() - start);
+            } else {
+                translator.translate(session, packet);
+            }
         } catch (Throwable ex) {
             GeyserImpl.getInstance().getLogger().error(GeyserLocale.getLocaleStringLog("geyser.network.translator.packet.failed", packet.getClass().getSimpleName()), ex);
             ex.printStackTrace();
@@ -94,6 +111,13 @@ public class PacketTranslatorRegistry<T> extends AbstractMappedRegistry<Class<?
     }
 
     public static <T> PacketTranslatorRegistry<T> create() {
-        return new PacketTranslatorRegistry<>();
+        return new PacketTranslatorRegistry<>(false);
+    }
+
+    /**
+     * Creates a registry whose packets are translated in order with chunks translated by the {@link org.geysermc.geyser.session.ChunkTranslationPipeline}.
+     */
+    public static <T> PacketTranslatorRegistry<T> createSequenced() {
+        return new PacketTranslatorRegistry<>(true);
     }
 }
@@ -111,7 +111,7 @@ public final class Registries {
     /**
      * A registry containing all the Java packet translators.
      */
-    public static final PacketTranslatorRegistry<Packet> JAVA_PACKET_TRANSLATORS = PacketTranslatorRegistry.create();
+    public static final PacketTranslatorRegistry<Packet> JAVA_PACKET_TRANSLATORS = PacketTranslatorRegistry.createSequenced();
 
     /**
      * A registry containing all Java items ordered by their network ID.
@@ -25,6 +25,7 @@
 
 package org.geysermc.geyser.scoreboard;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import lombok.Getter;
 import lombok.Setter;
 import net.kyori.adventure.text.Component;
@@ -35,7 +36,6 @@ import org.geysermc.mcprotocollib.protocol.data.game.scoreboard.TeamColor;
 
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Getter
 public final class Objective {
@@ -53,7 +53,7 @@ public final class Objective {
     private NumberFormat numberFormat;
     private int type = 0; // 0 = integer, 1 = heart
 
-    private Map<String, Score> scores = new ConcurrentHashMap<>();
+    private Map<String, Score> scores = new Object2ObjectOpenHashMap<>();
 
     private Objective(Scoreboard scoreboard) {
         this.id = scoreboard.getNextId().getAndIncrement();
@@ -107,8 +107,12 @@ public final class Objective {
         if (stored != null) {
             stored.setScore(score)
                     .setDisplayName(displayName)
-                    .setNumberFormat(numberFormat)
-                    .setUpdateType(UpdateType.UPDATE);
+                    .setNumberFormat(numberFormat);
+            // The setters above only mark the score as updated when something actually changed,
+            // but a score that is pending removal has to be brought back either way
+            if (stored.getUpdateType() == UpdateType.REMOVE) {
+                stored.setUpdateType(UpdateType.UPDATE);
+            }
             return;
         }
         registerScore(id, score, displayName, numberFormat);
@@ -121,13 +125,6 @@ public final class Objective {
         }
     }
 
-    /**
-     * Used internally to remove a score from the score map
-     */
-    public void removeScore0(String id) {
-        scores.remove(id);
-    }
-
     public Objective setDisplayName(String displayName) {
         this.displayName = displayName;
         if (updateType == UpdateType.NOTHING) {
@@ -75,7 +75,10 @@ public final class Score {
     }
 
     public Score setScore(int score) {
-        currentData.score = score;
+        if (currentData.score != score) {
+            currentData.score = score;
+            setUpdateType(UpdateType.UPDATE);
+        }
         return this;
     }
 
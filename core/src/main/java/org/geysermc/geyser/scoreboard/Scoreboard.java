@@ -43,7 +43,6 @@ import org.geysermc.mcprotocollib.protocol.data.game.scoreboard.ScoreboardPositi
 import org.jetbrains.annotations.Contract;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -59,10 +58,10 @@ public final class Scoreboard {
     @Getter
     private final AtomicLong nextId = new AtomicLong(0);
 
-    private final Map<String, Objective> objectives = new ConcurrentHashMap<>();
+    private final Map<String, Objective> objectives = new Object2ObjectOpenHashMap<>();
     @Getter
     private final Map<ScoreboardPosition, Objective> objectiveSlots = new EnumMap<>(ScoreboardPosition.class);
-    private final Map<String, Team> teams = new ConcurrentHashMap<>(); // updated on multiple threads
+    private final Map<String, Team> teams = new Object2ObjectOpenHashMap<>(); // only updated on the session's event loop
     /**
      * Required to preserve vanilla behavior, which also uses a map.
      * Otherwise, for example, if TAB has a team for a player and vanilla has a team, "race conditions" that do not
@@ -253,17 +252,19 @@ public final class Scoreboard {
         boolean objectiveAdd = objective.getUpdateType() == ADD;
         boolean objectiveUpdate = objective.getUpdateType() == UPDATE;
 
-        for (Score score : objective.getScores().values()) {
+        Iterator<Score> scoreIterator = objective.getScores().values().iterator();
+        while (scoreIterator.hasNext()) {
+            Score score = scoreIterator.next();
             if (score.getUpdateType() == REMOVE) {
                 ScoreInfo cachedInfo = score.getCachedInfo();
-                // cachedInfo can be null here when ScoreboardUpdater is being used and a score is added and
+                // cachedInfo can be null here when updates are being batched and a score is added and
                 // removed before a single update cycle is performed
                 if (cachedInfo != null) {
                     removeScores.add(cachedInfo);
                 }
                 // score is pending to be removed, so we can remove it from the objective
-                objective.removeScore0(score.getName());
-                break;
+                scoreIterator.remove();
+                continue;
             }
 
             Team team = score.getTeam();
@@ -30,13 +30,16 @@ import lombok.RequiredArgsConstructor;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.configuration.GeyserConfiguration;
 import org.geysermc.geyser.session.GeyserSession;
-import org.geysermc.geyser.session.cache.WorldCache;
 import org.geysermc.geyser.text.GeyserLocale;
 
-import java.util.Collection;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
 
-public final class ScoreboardUpdater extends Thread {
+/**
+ * Rate limits scoreboard updates for sessions receiving a lot of score and team packets.
+ * Every session schedules its own deferred updates on its event loop, so the scoreboard
+ * is only ever touched from the thread that is also translating the Java packets.
+ */
+public final class ScoreboardUpdater {
     public static final int FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD;
     public static final int SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD = 250;
 
@@ -51,132 +54,80 @@ public final class ScoreboardUpdater extends Thread {
         DEBUG_ENABLED = config.isDebugMode();
     }
 
-    private final GeyserImpl geyser = GeyserImpl.getInstance();
+    private ScoreboardUpdater() {
+    }
 
-    private long lastUpdate = System.currentTimeMillis();
-    private long lastPacketsPerSecondUpdate = System.currentTimeMillis();
+    /**
+     * Tracks the score and team packets per second of a single session. Not thread-safe;
+     * only to be used from the session's event loop.
+     */
+    @RequiredArgsConstructor
+    public static final class ScoreboardSession {
+        private final GeyserSession session;
+        private int pendingPacketsPerSecond;
+        @Getter
+        private int packetsPerSecond;
+        private long packetsPerSecondStart;
+        private long lastUpdate;
+        private long lastLog;
+        private boolean updateScheduled;
+
+        public int increaseAndGetPacketsPerSecond() {
+            long currentTime = System.currentTimeMillis();
+            long elapsed = currentTime - packetsPerSecondStart;
+            if (elapsed >= 1000) {
+                // If no packets were received for a full second, the last count doesn't say anything about the current rate
+                packetsPerSecond = elapsed >= 2000 ? 0 : pendingPacketsPerSecond;
+                pendingPacketsPerSecond = 0;
+                packetsPerSecondStart = currentTime;
+            }
+            return Math.max(packetsPerSecond, ++pendingPacketsPerSecond);
+        }
 
-    public static void init() {
-        new ScoreboardUpdater().start();
-    }
+        /**
+         * Pushes the scoreboard changes to the client right away if we're below the first threshold,
+         * otherwise schedules one update for when the current interval has passed.
+         */
+        public void update(int pps) {
+            if (pps < FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
+                // Also pushes everything that a scheduled update would have sent
+                session.getWorldCache().getScoreboard().onUpdate();
+                lastUpdate = System.currentTimeMillis();
+                return;
+            }
 
-    @Override
-    public void run() {
-        while (!geyser.isShuttingDown() && !geyser.isReloading()) {
-            try {
-                long timeTillAction = getTimeTillNextAction();
-                if (timeTillAction > 0) {
-                    sleepFor(timeTillAction);
-                    continue;
-                }
-
-                long currentTime = System.currentTimeMillis();
-
-                // reset score-packets per second every second
-                Collection<GeyserSession> sessions = geyser.getSessionManager().getSessions().values();
-                if (currentTime - lastPacketsPerSecondUpdate >= 1000) {
-                    lastPacketsPerSecondUpdate = currentTime;
-                    for (GeyserSession session : sessions) {
-                        ScoreboardSession scoreboardSession = session.getWorldCache().getScoreboardSession();
-
-                        int oldPps = scoreboardSession.getPacketsPerSecond();
-                        int newPps = scoreboardSession.getPendingPacketsPerSecond().get();
-
-                        scoreboardSession.packetsPerSecond = newPps;
-                        scoreboardSession.pendingPacketsPerSecond.set(0);
-
-                        // just making sure that all updates are pushed before giving up control
-                        if (oldPps >= FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD &&
-                                newPps < FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
-                            session.getWorldCache().getScoreboard().onUpdate();
-                        }
-                    }
-                }
-
-                if (currentTime - lastUpdate >= FIRST_MILLIS_BETWEEN_UPDATES) {
-                    lastUpdate = currentTime;
-
-                    for (GeyserSession session : sessions) {
-                        WorldCache worldCache = session.getWorldCache();
-                        ScoreboardSession scoreboardSession = worldCache.getScoreboardSession();
-
-                        int pps = scoreboardSession.getPacketsPerSecond();
-                        if (pps >= FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
-                            boolean reachedSecondThreshold = pps >= SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD;
-
-                            int millisBetweenUpdates = reachedSecondThreshold ?
-                                    SECOND_MILLIS_BETWEEN_UPDATES :
-                                    FIRST_MILLIS_BETWEEN_UPDATES;
-
-                            if (currentTime - scoreboardSession.lastUpdate >= millisBetweenUpdates) {
-                                worldCache.getScoreboard().onUpdate();
-                                scoreboardSession.lastUpdate = currentTime;
-
-                                if (DEBUG_ENABLED && (currentTime - scoreboardSession.lastLog >= 60000)) { // one minute
-                                    int threshold = reachedSecondThreshold ?
-                                            SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD :
-                                            FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD;
-
-                                    geyser.getLogger().info(
-                                            GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached.log", session.bedrockUsername(), threshold, pps) +
-                                                    GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached", (millisBetweenUpdates / 1000.0))
-                                    );
-
-                                    scoreboardSession.lastLog = currentTime;
-                                }
-                            }
-                        }
-                    }
-                }
-
-                if (DEBUG_ENABLED) {
-                    long timeSpent = System.currentTimeMillis() - currentTime;
-                    if (timeSpent > 0) {
-                        geyser.getLogger().info(String.format(
-                                "Scoreboard updater: took %s ms. Updated %s players",
-                                timeSpent, sessions.size()
-                        ));
-                    }
-                }
-
-                long timeTillNextAction = getTimeTillNextAction();
-                sleepFor(timeTillNextAction);
-            } catch (Throwable e) {
-                geyser.getLogger().error("Error while translating scoreboard information!", e);
-                // Wait so we don't try to run the scoreboard immediately after this
-                sleepFor(FIRST_MILLIS_BETWEEN_UPDATES);
+            if (updateScheduled) {
+                return;
             }
+            updateScheduled = true;
+
+            int millisBetweenUpdates = pps >= SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD ?
+                    SECOND_MILLIS_BETWEEN_UPDATES :
+                    FIRST_MILLIS_BETWEEN_UPDATES;
+            long delay = Math.max(0, lastUpdate + millisBetweenUpdates - System.currentTimeMillis());
+            session.scheduleInEventLoop(() -> scheduledUpdate(pps, millisBetweenUpdates), delay, TimeUnit.MILLISECONDS);
         }
-    }
 
-    private long getTimeTillNextAction() {
-        long currentTime = System.currentTimeMillis();
+        private void scheduledUpdate(int pps, int millisBetweenUpdates) {
+            updateScheduled = false;
 
-        long timeUntilNextUpdate = FIRST_MILLIS_BETWEEN_UPDATES - (currentTime - lastUpdate);
-        long timeUntilPacketReset = 1000 - (currentTime - lastPacketsPerSecondUpdate);
+            long currentTime = System.currentTimeMillis();
+            // The scoreboard may have been replaced since this update has been scheduled
+            session.getWorldCache().getScoreboard().onUpdate();
+            lastUpdate = currentTime;
 
-        return Math.min(timeUntilNextUpdate, timeUntilPacketReset);
-    }
+            if (DEBUG_ENABLED && (currentTime - lastLog >= 60000)) { // one minute
+                int threshold = pps >= SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD ?
+                        SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD :
+                        FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD;
 
-    private void sleepFor(long millis) {
-        if (millis <= 0) {
-            return;
-        }
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-    }
+                GeyserImpl.getInstance().getLogger().info(
+                        GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached.log", session.bedrockUsername(), threshold, pps) +
+                                GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached", (millisBetweenUpdates / 1000.0))
+                );
 
-    @RequiredArgsConstructor
-    @Getter
-    public static final class ScoreboardSession {
-        private final GeyserSession session;
-        @SuppressWarnings("WriteOnlyObject")
-        private final AtomicInteger pendingPacketsPerSecond = new AtomicInteger(0);
-        private int packetsPerSecond;
-        private long lastUpdate;
-        private long lastLog;
+                lastLog = currentTime;
+            }
+        }
     }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session;
+
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundLevelChunkWithLightPacket;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Translates chunks on a shared pool of worker threads, while making sure that the results - and every Java packet
+ * received after a chunk - are still handled on the session's event loop in the order they were received.
+ * <p>
+ * All instance methods must be called from the session's event loop.
+ */
+public final class ChunkTranslationPipeline {
+    private static ExecutorService EXECUTOR_SERVICE;
+
+    private final GeyserSession session;
+    /**
+     * Chunk translations and packets waiting on them, in the order they were received.
+     */
+    private final Deque<Stage> stages = new ArrayDeque<>();
+    /**
+     * The number of stages in {@link #stages} that are not chunk translations.
+     */
+    private int deferredTasks = 0;
+    /**
+     * If a stage is currently being run by {@link #drain()}.
+     */
+    private boolean draining = false;
+
+    public ChunkTranslationPipeline(GeyserSession session) {
+        this.session = session;
+    }
+
+    public static boolean isEnabled() {
+        return GeyserImpl.getInstance().getConfig().getChunkTranslationThreads() > 0;
+    }
+
+    /**
+     * Runs the translation on a worker thread, and hands its result to the callback on the event loop once
+     * everything received before it has been handled.
+     */
+    public <T> void submit(Supplier<T> translation, Consumer<T> callback) {
+        Stage stage = new Stage(false);
+        if (draining) {
+            // A deferred chunk packet is being translated, and must stay ahead of everything that was queued after it
+            stages.addFirst(stage);
+        } else {
+            stages.add(stage);
+        }
+        CompletableFuture.supplyAsync(translation, getExecutorService()).whenComplete((result, throwable) -> session.executeInEventLoop(() -> {
+            if (throwable != null) {
+                session.getGeyser().getLogger().error("Error while translating chunk", throwable);
+            } else {
+                stage.task = () -> callback.accept(result);
+                stage.result = result;
+            }
+            stage.ready = true;
+            drain();
+        }));
+    }
+
+    /**
+     * Queues a packet's translation behind all pending chunk translations.
+     *
+     * @return true if the task was queued, or false if nothing is pending and the task can be run immediately.
+     */
+    public boolean defer(Object packet, Runnable task) {
+        if (draining || stages.isEmpty()) {
+            return false;
+        }
+        if (deferredTasks == 0 && packet instanceof ClientboundLevelChunkWithLightPacket) {
+            // Nothing that could change how this chunk is translated has been received since the pending chunks,
+            // so it can be translated alongside them
+            return false;
+        }
+        Stage stage = new Stage(true);
+        stage.task = task;
+        stage.ready = true;
+        stages.add(stage);
+        deferredTasks++;
+        return true;
+    }
+
+    private void drain() {
+        Stage stage;
+        while ((stage = stages.peek()) != null && stage.ready) {
+            stages.poll();
+            if (stage.deferred) {
+                deferredTasks--;
+            }
+            if (session.isClosed()) {
+                // Let go of anything the translation was holding onto, such as pooled buffers
+                ReferenceCountUtil.release(stage.result);
+                continue;
+            }
+            if (stage.task != null) {
+                draining = true;
+                try {
+                    stage.task.run();
+                } catch (Throwable t) {
+                    session.getGeyser().getLogger().error("Error while handling translated chunk", t);
+                } finally {
+                    draining = false;
+                }
+            }
+        }
+    }
+
+    private static synchronized ExecutorService getExecutorService() {
+        if (EXECUTOR_SERVICE == null) {
+            int threads = GeyserImpl.getInstance().getConfig().getChunkTranslationThreads();
+            EXECUTOR_SERVICE = Executors.newFixedThreadPool(threads, new DefaultThreadFactory("Geyser Chunk Translation Thread", true));
+        }
+        return EXECUTOR_SERVICE;
+    }
+
+    public static synchronized void shutdown() {
+        if (EXECUTOR_SERVICE != null) {
+            EXECUTOR_SERVICE.shutdown();
+            EXECUTOR_SERVICE = null;
+        }
+    }
+
+    private static final class Stage {
+        /**
+         * If this is a packet waiting on chunk translations, rather than a chunk translation itself.
+         */
+        private final boolean deferred;
+        private Runnable task;
+        /**
+         * The result of the translation, if this is a completed chunk translation. Ownership passes to the callback.
+         */
+        private Object result;
+        private boolean ready;
+
+        Stage(boolean deferred) {
+            this.deferred = deferred;
+        }
+    }
+}
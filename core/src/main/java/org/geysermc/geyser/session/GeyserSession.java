@@ -86,7 +86,6 @@ import org.geysermc.geyser.entity.EntityDefinitions;
 import org.geysermc.geyser.entity.GeyserEntityData;
 import org.geysermc.geyser.entity.attribute.GeyserAttributeType;
 import org.geysermc.geyser.entity.type.Entity;
-import org.geysermc.geyser.entity.type.ItemFrameEntity;
 import org.geysermc.geyser.entity.type.Tickable;
 import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
 import org.geysermc.geyser.erosion.AbstractGeyserboundPacketHandler;
@@ -101,7 +100,10 @@ import org.geysermc.geyser.item.Items;
 import org.geysermc.geyser.item.type.BlockItem;
 import org.geysermc.geyser.level.JavaDimension;
 import org.geysermc.geyser.level.physics.CollisionManager;
+import org.geysermc.geyser.network.PreEncodedPackets;
+import org.geysermc.geyser.network.metrics.GeyserPacketMetrics;
 import org.geysermc.geyser.network.netty.LocalSession;
+import org.geysermc.geyser.network.netty.handler.PacketMetricsHandler;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.type.BlockMappings;
 import org.geysermc.geyser.registry.type.ItemMappings;
@@ -194,7 +196,9 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
 
     private final AdvancementsCache advancementsCache;
     private final BookEditCache bookEditCache;
+    private final ChunkBlobCache chunkBlobCache;
     private final ChunkCache chunkCache;
+    private final ChunkTranslationPipeline chunkTranslationPipeline;
     private final EntityCache entityCache;
     private final EntityEffectCache effectCache;
     private final FormCache formCache;
@@ -252,10 +256,10 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private ItemMappings itemMappings;
 
     /**
-     * A map of Vector3i positions to Java entities.
+     * Item frames by their Bedrock block position.
      * Used for translating Bedrock block actions to Java entity actions.
      */
-    private final Map<Vector3i, ItemFrameEntity> itemFrameCache = new Object2ObjectOpenHashMap<>();
+    private final ItemFrameCache itemFrameCache = new ItemFrameCache();
 
     /**
      * A list of all players that have a player head on with a custom texture.
@@ -558,6 +562,8 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
 
     private final GeyserEntityData entityData;
 
+    private final GeyserPacketMetrics packetMetrics;
+
     private MinecraftProtocol protocol;
 
     public GeyserSession(GeyserImpl geyser, BedrockServerSession bedrockServerSession, EventLoop eventLoop) {
@@ -569,7 +575,9 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
 
         this.advancementsCache = new AdvancementsCache(this);
         this.bookEditCache = new BookEditCache(this);
+        this.chunkBlobCache = new ChunkBlobCache(this);
         this.chunkCache = new ChunkCache(this);
+        this.chunkTranslationPipeline = new ChunkTranslationPipeline(this);
         this.entityCache = new EntityCache(this);
         this.effectCache = new EntityEffectCache();
         this.formCache = new FormCache(this);
@@ -583,6 +591,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         this.worldCache = new WorldCache(this);
         this.cameraData = new GeyserCameraData(this);
         this.entityData = new GeyserEntityData(this);
+        this.packetMetrics = geyser.packetMetrics().forSession(eventLoop);
 
         this.worldBorder = new WorldBorder(this);
 
@@ -618,35 +627,48 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         sentSpawnPacket = true;
         syncEntityProperties();
 
+        // The following packets are the same for everyone on this Bedrock version, so they are only encoded once
         if (GeyserImpl.getInstance().getConfig().isAddNonBedrockItems()) {
-            ItemComponentPacket componentPacket = new ItemComponentPacket();
-            componentPacket.getItems().addAll(itemMappings.getComponentItemData());
-            upstream.sendPacket(componentPacket);
+            upstream.sendPacket(PreEncodedPackets.get(this, PreEncodedPackets.Id.ITEM_COMPONENTS, () -> {
+                ItemComponentPacket componentPacket = new ItemComponentPacket();
+                componentPacket.getItems().addAll(itemMappings.getComponentItemData());
+                return componentPacket;
+            }));
         }
 
         ChunkUtils.sendEmptyChunks(this, playerEntity.getPosition().toInt(), 0, false);
 
-        BiomeDefinitionListPacket biomeDefinitionListPacket = new BiomeDefinitionListPacket();
-        biomeDefinitionListPacket.setDefinitions(Registries.BIOMES_NBT.get());
-        upstream.sendPacket(biomeDefinitionListPacket);
-
-        AvailableEntityIdentifiersPacket entityPacket = new AvailableEntityIdentifiersPacket();
-        entityPacket.setIdentifiers(Registries.BEDROCK_ENTITY_IDENTIFIERS.get());
-        upstream.sendPacket(entityPacket);
-
-        CameraPresetsPacket cameraPresetsPacket = new CameraPresetsPacket();
-        cameraPresetsPacket.getPresets().addAll(CameraDefinitions.CAMERA_PRESETS);
-        upstream.sendPacket(cameraPresetsPacket);
-
-        CreativeContentPacket creativePacket = new CreativeContentPacket();
-        creativePacket.setContents(this.itemMappings.getCreativeItems());
-        upstream.sendPacket(creativePacket);
+        upstream.sendPacket(PreEncodedPackets.get(this, PreEncodedPackets.Id.BIOME_DEFINITIONS, () -> {
+            BiomeDefinitionListPacket biomeDefinitionListPacket = new BiomeDefinitionListPacket();
+            biomeDefinitionListPacket.setDefinitions(Registries.BIOMES_NBT.get());
+            return biomeDefinitionListPacket;
+        }));
+
+        upstream.sendPacket(PreEncodedPackets.get(this, PreEncodedPackets.Id.ENTITY_IDENTIFIERS, () -> {
+            AvailableEntityIdentifiersPacket entityPacket = new AvailableEntityIdentifiersPacket();
+            entityPacket.setIdentifiers(Registries.BEDROCK_ENTITY_IDENTIFIERS.get());
+            return entityPacket;
+        }));
+
+        upstream.sendPacket(PreEncodedPackets.get(this, PreEncodedPackets.Id.CAMERA_PRESETS, () -> {
+            CameraPresetsPacket cameraPresetsPacket = new CameraPresetsPacket();
+            cameraPresetsPacket.getPresets().addAll(CameraDefinitions.CAMERA_PRESETS);
+            return cameraPresetsPacket;
+        }));
+
+        upstream.sendPacket(PreEncodedPackets.get(this, PreEncodedPackets.Id.CREATIVE_CONTENT, () -> {
+            CreativeContentPacket creativePacket = new CreativeContentPacket();
+            creativePacket.setContents(this.itemMappings.getCreativeItems());
+            return creativePacket;
+        }));
 
         // Potion mixes are registered by default, as they are needed to be able to put ingredients into the brewing stand.
-        CraftingDataPacket craftingDataPacket = new CraftingDataPacket();
-        craftingDataPacket.setCleanRecipes(true);
-        craftingDataPacket.getPotionMixData().addAll(Registries.POTION_MIXES.forVersion(this.upstream.getProtocolVersion()));
-        upstream.sendPacket(craftingDataPacket);
+        upstream.sendPacket(PreEncodedPackets.get(this, PreEncodedPackets.Id.POTION_MIXES, () -> {
+            CraftingDataPacket craftingDataPacket = new CraftingDataPacket();
+            craftingDataPacket.setCleanRecipes(true);
+            craftingDataPacket.getPotionMixData().addAll(Registries.POTION_MIXES.forVersion(this.upstream.getProtocolVersion()));
+            return craftingDataPacket;
+        }));
 
         PlayStatusPacket playStatusPacket = new PlayStatusPacket();
         playStatusPacket.setStatus(PlayStatusPacket.Status.PLAYER_SPAWN);
@@ -958,6 +980,10 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
                 loggingIn = false;
                 loggedIn = true;
 
+                if (geyser.getConfig().isPacketMetrics()) {
+                    downstream.getChannel().pipeline().addFirst(PacketMetricsHandler.NAME, new PacketMetricsHandler(packetMetrics, false));
+                }
+
                 if (downstream instanceof LocalSession) {
                     // Connected directly to the server
                     geyser.getLogger().info(GeyserLocale.getLocaleStringLog("geyser.network.remote.connect_internal",
@@ -1593,6 +1619,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      * @param packet the bedrock packet from the NukkitX protocol lib
      */
     public void sendUpstreamPacket(BedrockPacket packet) {
+        chunkCache.updateBedrockColumn(packet);
         upstream.sendPacket(packet);
     }
 
@@ -1602,6 +1629,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      * @param packet the bedrock packet from the NukkitX protocol lib
      */
     public void sendUpstreamPacketImmediately(BedrockPacket packet) {
+        chunkCache.updateBedrockColumn(packet);
         upstream.sendPacketImmediately(packet);
     }
 
@@ -2014,6 +2042,11 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         return this.entityData;
     }
 
+    @Override
+    public @NonNull GeyserPacketMetrics packetMetrics() {
+        return this.packetMetrics;
+    }
+
     @Override
     public void shakeCamera(float intensity, float duration, @NonNull CameraShake type) {
         this.cameraData.shakeCamera(intensity, duration, type);
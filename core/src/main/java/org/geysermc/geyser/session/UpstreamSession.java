@@ -25,6 +25,7 @@
 
 package org.geysermc.geyser.session;
 
+import io.netty.util.ReferenceCountUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -45,15 +46,23 @@ public class UpstreamSession {
     private boolean initialized = false;
     private Queue<BedrockPacket> postStartGamePackets = new ArrayDeque<>();
 
+    /**
+     * Sends a packet to the client. Reference counted packets, such as chunks backed by a pooled buffer, are released
+     * once they have been encoded - or right away if the client is no longer connected.
+     */
     public void sendPacket(@NonNull BedrockPacket packet) {
         if (!isClosed()) {
             session.sendPacket(packet);
+        } else {
+            ReferenceCountUtil.release(packet);
         }
     }
 
     public void sendPacketImmediately(@NonNull BedrockPacket packet) {
         if (!isClosed()) {
             session.sendPacketImmediately(packet);
+        } else {
+            ReferenceCountUtil.release(packet);
         }
     }
 
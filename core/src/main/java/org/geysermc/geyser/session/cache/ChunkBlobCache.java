@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import lombok.Getter;
+import org.cloudburstmc.protocol.bedrock.packet.ClientCacheBlobStatusPacket;
+import org.cloudburstmc.protocol.bedrock.packet.ClientCacheMissResponsePacket;
+import org.geysermc.geyser.session.GeyserSession;
+
+/**
+ * Keeps track of chunk data that has been sent to the client as blob IDs, when the client blob cache is in use.
+ * <p>
+ * The client stores blobs by their ID and only asks for the ones it does not know about yet, so each blob is held
+ * here until the client has either acknowledged it or requested it through a {@link ClientCacheBlobStatusPacket}.
+ */
+public class ChunkBlobCache {
+    /**
+     * Blob IDs are stored by the client across sessions and servers, so they must only depend on the contents of the blob.
+     */
+    private static final HashFunction BLOB_HASH = Hashing.farmHashFingerprint64();
+    /**
+     * A client that stops responding should not make us hold on to every chunk it was sent. Past this, the oldest
+     * blobs are forgotten; should the client still ask for one of them, it will be missing that section until the
+     * chunk is resent.
+     */
+    private static final int MAX_PENDING_BYTES = 32 * 1024 * 1024;
+
+    private final GeyserSession session;
+
+    /**
+     * Blobs that have been referenced in a chunk packet but that the client has not responded to yet.
+     * Chunks may be encoded off of the session's event loop, so all access is synchronized.
+     * Kept in the order the blobs were first referenced, so the oldest can be dropped first.
+     */
+    private final Long2ObjectLinkedOpenHashMap<PendingBlob> pendingBlobs = new Long2ObjectLinkedOpenHashMap<>();
+    private int pendingBytes = 0;
+
+    /**
+     * If the client has told us that it supports the blob cache, and it is enabled in the config.
+     */
+    @Getter
+    private volatile boolean enabled = false;
+
+    public ChunkBlobCache(GeyserSession session) {
+        this.session = session;
+    }
+
+    public synchronized void setClientSupported(boolean supported) {
+        this.enabled = supported && session.getGeyser().getConfig().isChunkCaching();
+        if (!this.enabled) {
+            clear();
+        }
+    }
+
+    /**
+     * Stores the readable bytes of the buffer as a blob, without modifying the buffer's reader index.
+     *
+     * @return the ID to reference this blob by in a chunk packet
+     */
+    public synchronized long store(ByteBuf buffer) {
+        byte[] blob = ByteBufUtil.getBytes(buffer);
+        long blobId = BLOB_HASH.hashBytes(blob).asLong();
+        PendingBlob pending = this.pendingBlobs.get(blobId);
+        if (pending == null) {
+            this.pendingBlobs.put(blobId, new PendingBlob(blob));
+            this.pendingBytes += blob.length;
+            while (this.pendingBytes > MAX_PENDING_BYTES && this.pendingBlobs.size() > 1) {
+                this.pendingBytes -= this.pendingBlobs.removeFirst().data.length;
+            }
+        } else {
+            // The same blob can be referenced by multiple chunks before the client responds to any of them
+            pending.references++;
+        }
+        return blobId;
+    }
+
+    /**
+     * Sends all blobs the client is missing, and forgets about all blobs the client has responded to.
+     */
+    public synchronized void handleStatus(ClientCacheBlobStatusPacket packet) {
+        ClientCacheMissResponsePacket response = new ClientCacheMissResponsePacket();
+        for (long blobId : packet.getNaks()) {
+            PendingBlob blob = release(blobId);
+            if (blob != null) {
+                response.getBlobs().put(blobId, Unpooled.wrappedBuffer(blob.data));
+            } else {
+                session.getGeyser().getLogger().debug("Client requested unknown chunk blob " + blobId);
+            }
+        }
+
+        for (long blobId : packet.getAcks()) {
+            release(blobId);
+        }
+
+        if (!response.getBlobs().isEmpty()) {
+            session.sendUpstreamPacket(response);
+        }
+    }
+
+    /**
+     * Forgets all blobs the client has not responded to yet, e.g. because the chunks they belong to are gone.
+     */
+    public synchronized void clear() {
+        this.pendingBlobs.clear();
+        this.pendingBytes = 0;
+    }
+
+    private PendingBlob release(long blobId) {
+        PendingBlob blob = this.pendingBlobs.get(blobId);
+        if (blob != null && --blob.references <= 0) {
+            this.pendingBlobs.remove(blobId);
+            this.pendingBytes -= blob.data.length;
+        }
+        return blob;
+    }
+
+    private static final class PendingBlob {
+        private final byte[] data;
+        private int references = 1;
+
+        private PendingBlob(byte[] data) {
+            this.data = data;
+        }
+    }
+}
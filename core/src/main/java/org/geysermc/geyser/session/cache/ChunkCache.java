@@ -25,7 +25,16 @@
 
 package org.geysermc.geyser.session.cache;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.math.vector.Vector3i;
+import org.cloudburstmc.protocol.bedrock.data.BlockChangeEntry;
+import org.cloudburstmc.protocol.bedrock.data.definitions.BlockDefinition;
+import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
+import org.cloudburstmc.protocol.bedrock.packet.BlockEntityDataPacket;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateBlockPacket;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateSubChunkBlocksPacket;
 import org.geysermc.geyser.level.block.type.Block;
+import org.geysermc.geyser.level.chunk.BedrockChunkColumn;
 import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
@@ -33,13 +42,27 @@ import lombok.Getter;
 import lombok.Setter;
 import org.geysermc.geyser.level.BedrockDimension;
 import org.geysermc.geyser.level.block.BlockStateValues;
+import org.geysermc.geyser.level.chunk.CompactChunkSection;
 import org.geysermc.geyser.level.chunk.GeyserChunk;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.util.MathUtils;
 
 public class ChunkCache {
+    private final GeyserSession session;
     private final boolean cache;
     private final Long2ObjectMap<GeyserChunk> chunks;
+    /**
+     * Whether chunks are sent to the client through sub chunk requests, in which case the translated Bedrock columns
+     * are kept until the client requests their sections.
+     */
+    @Getter
+    private final boolean subChunkRequests;
+    private final Long2ObjectMap<BedrockChunkColumn> bedrockColumns;
+    /**
+     * A rough estimate of the heap memory used by the cached chunks. Sections shared with other sessions are counted in full.
+     */
+    @Getter
+    private volatile long retainedBytes;
 
     @Setter
     private int minY;
@@ -54,18 +77,51 @@ public class ChunkCache {
     private BedrockDimension bedrockDimension = BedrockDimension.OVERWORLD;
 
     public ChunkCache(GeyserSession session) {
+        this.session = session;
         this.cache = !session.getGeyser().getWorldManager().hasOwnChunkCache(); // To prevent Spigot from initializing
         chunks = cache ? new Long2ObjectOpenHashMap<>() : null;
+        this.subChunkRequests = session.getGeyser().getConfig().isSubChunkRequests();
+        this.bedrockColumns = subChunkRequests ? new Long2ObjectOpenHashMap<>() : null;
+    }
+
+    /**
+     * @return if Java chunks are kept for block lookups, meaning {@link #addToCache(int, int, GeyserChunk)} does anything
+     */
+    public boolean isCaching() {
+        return cache;
     }
 
-    public void addToCache(int x, int z, DataPalette[] chunks) {
+    /**
+     * @param geyserChunk the chunk, as created by {@link GeyserChunk#from(DataPalette[])}
+     */
+    public void addToCache(int x, int z, GeyserChunk geyserChunk) {
         if (!cache) {
             return;
         }
 
         long chunkPosition = MathUtils.chunkPositionToLong(x, z);
-        GeyserChunk geyserChunk = GeyserChunk.from(chunks);
-        this.chunks.put(chunkPosition, geyserChunk);
+        GeyserChunk previous = this.chunks.put(chunkPosition, geyserChunk);
+        long retainedBytes = this.retainedBytes + geyserChunk.retainedBytes();
+        if (previous != null) {
+            retainedBytes -= previous.retainedBytes();
+        }
+        this.retainedBytes = retainedBytes;
+    }
+
+    public void addBedrockColumn(int x, int z, BedrockChunkColumn column) {
+        if (!subChunkRequests) {
+            return;
+        }
+
+        bedrockColumns.put(MathUtils.chunkPositionToLong(x, z), column);
+    }
+
+    public @Nullable BedrockChunkColumn getBedrockColumn(int x, int z) {
+        if (!subChunkRequests) {
+            return null;
+        }
+
+        return bedrockColumns.get(MathUtils.chunkPositionToLong(x, z));
     }
 
     /**
@@ -76,6 +132,49 @@ public class ChunkCache {
         return chunks.getOrDefault(chunkPosition, null);
     }
 
+    /**
+     * Applies a block or block entity change that is being sent to the client to its Bedrock column, so that the
+     * client is served the same blocks should it request the section again. Since this looks at the packets themselves,
+     * it also covers blocks that only exist on Bedrock, such as item frames and custom skulls.
+     */
+    public void updateBedrockColumn(BedrockPacket packet) {
+        if (!subChunkRequests) {
+            return;
+        }
+        if (!(packet instanceof UpdateBlockPacket || packet instanceof UpdateSubChunkBlocksPacket || packet instanceof BlockEntityDataPacket)) {
+            return;
+        }
+        // The columns are only ever accessed on the event loop
+        session.ensureInEventLoop(() -> applyToBedrockColumn(packet));
+    }
+
+    private void applyToBedrockColumn(BedrockPacket packet) {
+        if (packet instanceof UpdateBlockPacket updateBlockPacket) {
+            setBedrockBlock(updateBlockPacket.getBlockPosition(), updateBlockPacket.getDataLayer(), updateBlockPacket.getDefinition());
+        } else if (packet instanceof UpdateSubChunkBlocksPacket subChunkBlocksPacket) {
+            for (BlockChangeEntry entry : subChunkBlocksPacket.getStandardBlocks()) {
+                setBedrockBlock(entry.getPosition(), 0, entry.getDefinition());
+            }
+            for (BlockChangeEntry entry : subChunkBlocksPacket.getExtraBlocks()) {
+                setBedrockBlock(entry.getPosition(), 1, entry.getDefinition());
+            }
+        } else if (packet instanceof BlockEntityDataPacket blockEntityDataPacket) {
+            Vector3i position = blockEntityDataPacket.getBlockPosition();
+            BedrockChunkColumn column = bedrockColumns.get(MathUtils.chunkPositionToLong(position.getX() >> 4, position.getZ() >> 4));
+            if (column != null && blockEntityDataPacket.getData() != null) {
+                column.setBlockEntity(position.getX(), position.getY(), position.getZ(), blockEntityDataPacket.getData());
+            }
+        }
+    }
+
+    private void setBedrockBlock(Vector3i position, int layer, BlockDefinition definition) {
+        BedrockChunkColumn column = bedrockColumns.get(MathUtils.chunkPositionToLong(position.getX() >> 4, position.getZ() >> 4));
+        if (column != null && definition != null) {
+            column.setBlock(position.getX() & 0xF, position.getY(), position.getZ() & 0xF, layer,
+                    definition.getRuntimeId(), session.getBlockMappings().getBedrockAir().getRuntimeId());
+        }
+    }
+
     public void updateBlock(int x, int y, int z, int block) {
         if (!cache) {
             return;
@@ -91,21 +190,26 @@ public class ChunkCache {
             return;
         }
 
-        DataPalette palette = chunk.sections()[(y - minY) >> 4];
-        if (palette == null) {
+        int sectionY = (y - minY) >> 4;
+        CompactChunkSection section = chunk.sections()[sectionY];
+        CompactChunkSection updated;
+        if (section == null) {
             if (block != Block.JAVA_AIR_ID) {
                 // A previously empty chunk, which is no longer empty as a block has been added to it
-                palette = DataPalette.createForChunk();
-                // Fixes the chunk assuming that all blocks is the `block` variable we are updating. /shrug
-                palette.getPalette().stateToId(Block.JAVA_AIR_ID);
-                chunk.sections()[(y - minY) >> 4] = palette;
+                updated = CompactChunkSection.ofState(Block.JAVA_AIR_ID).withBlock(x & 0xF, y & 0xF, z & 0xF, block);
             } else {
                 // Nothing to update
                 return;
             }
+        } else {
+            // Sections can be shared with other sessions, so this may give us a copy
+            updated = section.withBlock(x & 0xF, y & 0xF, z & 0xF, block);
         }
 
-        palette.set(x & 0xF, y & 0xF, z & 0xF, block);
+        if (updated != section) {
+            chunk.sections()[sectionY] = updated;
+            this.retainedBytes += updated.retainedBytes() - (section == null ? 0 : section.retainedBytes());
+        }
     }
 
     public int getBlockAt(int x, int y, int z) {
@@ -123,21 +227,35 @@ public class ChunkCache {
             return Block.JAVA_AIR_ID;
         }
 
-        DataPalette chunk = column.sections()[(y - minY) >> 4];
-        if (chunk != null) {
-            return chunk.get(x & 0xF, y & 0xF, z & 0xF);
+        CompactChunkSection section = column.sections()[(y - minY) >> 4];
+        if (section != null) {
+            return section.get(x & 0xF, y & 0xF, z & 0xF);
         }
 
         return Block.JAVA_AIR_ID;
     }
 
+    /**
+     * @return if the chunk is known to this cache, meaning block lookups in it are accurate
+     */
+    public boolean isChunkCached(int chunkX, int chunkZ) {
+        return cache && chunks.containsKey(MathUtils.chunkPositionToLong(chunkX, chunkZ));
+    }
+
     public void removeChunk(int chunkX, int chunkZ) {
+        long chunkPosition = MathUtils.chunkPositionToLong(chunkX, chunkZ);
+        if (subChunkRequests) {
+            bedrockColumns.remove(chunkPosition);
+        }
+
         if (!cache) {
             return;
         }
 
-        long chunkPosition = MathUtils.chunkPositionToLong(chunkX, chunkZ);
-        chunks.remove(chunkPosition);
+        GeyserChunk chunk = chunks.remove(chunkPosition);
+        if (chunk != null) {
+            this.retainedBytes -= chunk.retainedBytes();
+        }
     }
 
     /**
@@ -146,11 +264,16 @@ public class ChunkCache {
      * but it is the client that must clear sections in the event of proxy switches.
      */
     public void clear() {
+        if (subChunkRequests) {
+            bedrockColumns.clear();
+        }
+
         if (!cache) {
             return;
         }
 
         chunks.clear();
+        this.retainedBytes = 0;
     }
 
     public int getChunkMinY() {
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.math.vector.Vector3i;
+import org.geysermc.geyser.entity.type.ItemFrameEntity;
+import org.geysermc.geyser.util.MathUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Item frames are blocks on Bedrock, so they are tracked by their Bedrock position.
+ * Used for translating Bedrock block actions to Java entity actions, and for re-sending item frames when their chunk is loaded.
+ */
+public final class ItemFrameCache {
+    private final Map<Vector3i, ItemFrameEntity> itemFrames = new Object2ObjectOpenHashMap<>();
+    /**
+     * The same item frames, grouped by the chunk they are in so a chunk load doesn't need to check every item frame.
+     */
+    private final Long2ObjectMap<List<ItemFrameEntity>> itemFramesByChunk = new Long2ObjectOpenHashMap<>();
+
+    public void put(Vector3i position, ItemFrameEntity itemFrame) {
+        ItemFrameEntity previous = this.itemFrames.put(position, itemFrame);
+        if (previous != null) {
+            removeFromChunk(position, previous);
+        }
+        this.itemFramesByChunk.computeIfAbsent(chunkKey(position), key -> new ObjectArrayList<>(2)).add(itemFrame);
+    }
+
+    public @Nullable ItemFrameEntity get(Vector3i position) {
+        return this.itemFrames.get(position);
+    }
+
+    public void remove(Vector3i position, ItemFrameEntity itemFrame) {
+        if (this.itemFrames.remove(position, itemFrame)) {
+            removeFromChunk(position, itemFrame);
+        }
+    }
+
+    public List<ItemFrameEntity> getItemFramesInChunk(int chunkX, int chunkZ) {
+        List<ItemFrameEntity> itemFrames = this.itemFramesByChunk.get(MathUtils.chunkPositionToLong(chunkX, chunkZ));
+        return itemFrames != null ? itemFrames : Collections.emptyList();
+    }
+
+    public void clear() {
+        this.itemFrames.clear();
+        this.itemFramesByChunk.clear();
+    }
+
+    private void removeFromChunk(Vector3i position, ItemFrameEntity itemFrame) {
+        long chunkKey = chunkKey(position);
+        List<ItemFrameEntity> itemFrames = this.itemFramesByChunk.get(chunkKey);
+        if (itemFrames != null && itemFrames.remove(itemFrame) && itemFrames.isEmpty()) {
+            this.itemFramesByChunk.remove(chunkKey);
+        }
+    }
+
+    private static long chunkKey(Vector3i position) {
+        return MathUtils.chunkPositionToLong(position.getX() >> 4, position.getZ() >> 4);
+    }
+}
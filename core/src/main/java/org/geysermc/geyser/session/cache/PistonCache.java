@@ -172,6 +172,16 @@ public class PistonCache {
         return offset;
     }
 
+    /**
+     * Same as {@link #computeCollisionOffset(Vector3i, BoundingBox, Axis, double)}, but only creates a position when a block is moving
+     */
+    public double computeCollisionOffset(int x, int y, int z, BoundingBox boundingBox, Axis axis, double offset) {
+        if (movingBlocksMap.isEmpty()) {
+            return offset;
+        }
+        return computeCollisionOffset(Vector3i.from(x, y, z), boundingBox, axis, offset);
+    }
+
     public boolean checkCollision(Vector3i blockPos, BoundingBox boundingBox) {
         PistonBlockEntity piston = movingBlocksMap.get(blockPos);
         if (piston != null) {
@@ -126,6 +126,11 @@ public final class RegistryCache {
 
     private final JavaRegistry<BannerPattern> bannerPatterns = new SimpleJavaRegistry<>();
     private final JavaRegistry<WolfEntity.BuiltInWolfVariant> wolfVariants = new SimpleJavaRegistry<>();
+    /**
+     * The entries of every registry we track, as the server sent them.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<Key, List<RegistryEntry>> registryData = new HashMap<>();
 
     public RegistryCache(GeyserSession session) {
         this.session = session;
@@ -138,11 +143,22 @@ public final class RegistryCache {
         var reader = REGISTRIES.get(packet.getRegistry());
         if (reader != null) {
             reader.accept(this, packet.getEntries());
+            registryData.put(packet.getRegistry(), List.copyOf(packet.getEntries()));
         } else {
             GeyserImpl.getInstance().getLogger().debug("Ignoring registry of type " + packet.getRegistry());
         }
     }
 
+    /**
+     * Sessions with equal registry data translate items the same way, so this can be used to share translations
+     * between sessions connected to the same backend server.
+     *
+     * @return a copy of the registry entries the server sent, compared by content
+     */
+    public Map<Key, List<RegistryEntry>> registryData() {
+        return Map.copyOf(registryData);
+    }
+
     /**
      * @param registry the Java registry resource location, without the "minecraft:" prefix.
      * @param localCacheFunction which local field in RegistryCache are we caching entries for this registry?
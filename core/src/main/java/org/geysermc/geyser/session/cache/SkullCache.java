@@ -25,7 +25,10 @@
 
 package org.geysermc.geyser.session.cache;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import lombok.Data;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -43,6 +46,7 @@ import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.type.CustomSkull;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.skin.SkinManager;
+import org.geysermc.geyser.util.MathUtils;
 
 import java.io.IOException;
 import java.util.*;
@@ -51,6 +55,7 @@ public class SkullCache {
     private final int maxVisibleSkulls;
     private final boolean cullingEnabled;
     
+    private final int skullRenderDistance;
     private final int skullRenderDistanceSquared;
     
     /**
@@ -58,11 +63,27 @@ public class SkullCache {
      */
     private static final long CLEANUP_PERIOD = 10000;
 
+    private static final Comparator<Skull> DISTANCE_COMPARATOR = Comparator.comparingInt(Skull::getDistanceSquared);
+
     @Getter
     private final Map<Vector3i, Skull> skulls = new Object2ObjectOpenHashMap<>();
 
+    /**
+     * The same skulls, grouped by chunk so visibility checks only look at skulls near the player.
+     */
+    private final Long2ObjectMap<List<Skull>> skullsByChunk = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Skulls within render distance. The first {@link #maxVisibleSkulls} are the closest skulls sorted by distance;
+     * the rest are in no particular order, but are never closer than those.
+     */
     private final List<Skull> inRangeSkulls = new ArrayList<>();
 
+    /**
+     * Used to select the closest skulls without sorting every skull in range. The farthest skull is at the head.
+     */
+    private final PriorityQueue<Skull> closestSkulls = new PriorityQueue<>(DISTANCE_COMPARATOR.reversed());
+
     private final Deque<SkullPlayerEntity> unusedSkullEntities = new ArrayDeque<>();
     private int totalSkullEntities = 0;
 
@@ -79,11 +100,16 @@ public class SkullCache {
 
         // Normal skulls are not rendered beyond 64 blocks
         int distance = Math.min(session.getGeyser().getConfig().getCustomSkullRenderDistance(), 64);
+        this.skullRenderDistance = distance;
         this.skullRenderDistanceSquared = distance * distance;
     }
 
     public Skull putSkull(Vector3i position, UUID uuid, String texturesProperty, BlockState blockState) {
-        Skull skull = skulls.computeIfAbsent(position, Skull::new);
+        Skull skull = skulls.computeIfAbsent(position, pos -> {
+            Skull newSkull = new Skull(pos);
+            skullsByChunk.computeIfAbsent(chunkKey(pos), key -> new ObjectArrayList<>(2)).add(newSkull);
+            return newSkull;
+        });
         skull.uuid = uuid;
         if (!texturesProperty.equals(skull.texturesProperty)) {
             skull.texturesProperty = texturesProperty;
@@ -123,19 +149,22 @@ public class SkullCache {
             }
             skull.distanceSquared = position.distanceSquared(lastPlayerPosition.getX(), lastPlayerPosition.getY(), lastPlayerPosition.getZ());
             if (skull.distanceSquared < skullRenderDistanceSquared) {
-                // Keep list in order
-                int i = Collections.binarySearch(inRangeSkulls, skull, Comparator.comparingInt(Skull::getDistanceSquared));
-                if (i < 0) { // skull.distanceSquared is a new distance value
-                    i = -i - 1;
-                }
-                inRangeSkulls.add(i, skull);
+                int visible = Math.min(inRangeSkulls.size(), maxVisibleSkulls);
+                if (visible < maxVisibleSkulls || (visible > 0 && skull.distanceSquared < inRangeSkulls.get(visible - 1).distanceSquared)) {
+                    // Keep the visible skulls in order
+                    int i = Collections.binarySearch(inRangeSkulls.subList(0, visible), skull, DISTANCE_COMPARATOR);
+                    if (i < 0) { // skull.distanceSquared is a new distance value
+                        i = -i - 1;
+                    }
+                    inRangeSkulls.add(i, skull);
 
-                if (i < maxVisibleSkulls) {
                     // Reassign entity from the farthest skull to this one
                     if (inRangeSkulls.size() > maxVisibleSkulls) {
                         freeSkullEntity(inRangeSkulls.get(maxVisibleSkulls));
                     }
                     assignSkullEntity(skull);
+                } else {
+                    inRangeSkulls.add(skull);
                 }
             }
         }
@@ -145,10 +174,24 @@ public class SkullCache {
     public void removeSkull(Vector3i position) {
         Skull skull = skulls.remove(position);
         if (skull != null) {
+            long chunkKey = chunkKey(position);
+            List<Skull> chunkSkulls = skullsByChunk.get(chunkKey);
+            if (chunkSkulls != null && chunkSkulls.remove(skull) && chunkSkulls.isEmpty()) {
+                skullsByChunk.remove(chunkKey);
+            }
             reassignSkullEntity(skull);
         }
     }
 
+    public void removeSkullsInChunk(int chunkX, int chunkZ) {
+        List<Skull> chunkSkulls = skullsByChunk.get(MathUtils.chunkPositionToLong(chunkX, chunkZ));
+        if (chunkSkulls != null) {
+            for (Skull skull : chunkSkulls.toArray(new Skull[0])) {
+                removeSkull(skull.position);
+            }
+        }
+    }
+
     public Skull updateSkull(Vector3i position, BlockState blockState) {
         Skull skull = skulls.get(position);
         if (skull != null) {
@@ -164,21 +207,47 @@ public class SkullCache {
                 return;
             }
             lastPlayerPosition = session.getPlayerEntity().getPosition();
+            float x = lastPlayerPosition.getX();
+            float y = lastPlayerPosition.getY();
+            float z = lastPlayerPosition.getZ();
 
-            inRangeSkulls.clear();
-            for (Skull skull : skulls.values()) {
-                if (skull.blockDefinition != null) {
-                    continue;
+            // Only skulls that were in range can have an entity
+            for (Skull skull : inRangeSkulls) {
+                if (skull.entity != null && skull.position.distanceSquared(x, y, z) > skullRenderDistanceSquared) {
+                    freeSkullEntity(skull);
                 }
+            }
+            inRangeSkulls.clear();
 
-                skull.distanceSquared = skull.position.distanceSquared(lastPlayerPosition.getX(), lastPlayerPosition.getY(), lastPlayerPosition.getZ());
-                if (skull.distanceSquared > skullRenderDistanceSquared) {
-                    freeSkullEntity(skull);
-                } else {
-                    inRangeSkulls.add(skull);
+            int playerChunkX = lastPlayerPosition.getFloorX() >> 4;
+            int playerChunkZ = lastPlayerPosition.getFloorZ() >> 4;
+            int chunkRadius = (skullRenderDistance >> 4) + 1;
+            for (int chunkX = playerChunkX - chunkRadius; chunkX <= playerChunkX + chunkRadius; chunkX++) {
+                for (int chunkZ = playerChunkZ - chunkRadius; chunkZ <= playerChunkZ + chunkRadius; chunkZ++) {
+                    List<Skull> chunkSkulls = skullsByChunk.get(MathUtils.chunkPositionToLong(chunkX, chunkZ));
+                    if (chunkSkulls == null || !isChunkInRange(chunkX, chunkZ, x, z)) {
+                        continue;
+                    }
+
+                    for (Skull skull : chunkSkulls) {
+                        if (skull.blockDefinition != null) {
+                            continue;
+                        }
+
+                        skull.distanceSquared = skull.position.distanceSquared(x, y, z);
+                        if (skull.distanceSquared <= skullRenderDistanceSquared) {
+                            selectClosestSkull(skull);
+                        }
+                    }
                 }
             }
-            inRangeSkulls.sort(Comparator.comparingInt(Skull::getDistanceSquared));
+
+            // Only the closest skulls need to be in order
+            Skull[] closest = new Skull[closestSkulls.size()];
+            for (int i = closest.length - 1; i >= 0; i--) {
+                closest[i] = closestSkulls.poll();
+            }
+            inRangeSkulls.addAll(0, Arrays.asList(closest));
 
             for (int i = inRangeSkulls.size() - 1; i >= 0; i--) {
                 if (i < maxVisibleSkulls) {
@@ -201,6 +270,26 @@ public class SkullCache {
         }
     }
 
+    /**
+     * Keeps track of the closest {@link #maxVisibleSkulls} skulls; any other skull goes straight to {@link #inRangeSkulls}.
+     */
+    private void selectClosestSkull(Skull skull) {
+        if (closestSkulls.size() < maxVisibleSkulls) {
+            closestSkulls.add(skull);
+        } else if (maxVisibleSkulls > 0 && skull.distanceSquared < closestSkulls.peek().distanceSquared) {
+            inRangeSkulls.add(closestSkulls.poll());
+            closestSkulls.add(skull);
+        } else {
+            inRangeSkulls.add(skull);
+        }
+    }
+
+    private boolean isChunkInRange(int chunkX, int chunkZ, float x, float z) {
+        float distanceX = Math.max(0, Math.max((chunkX << 4) - x, x - ((chunkX << 4) + 16)));
+        float distanceZ = Math.max(0, Math.max((chunkZ << 4) - z, z - ((chunkZ << 4) + 16)));
+        return distanceX * distanceX + distanceZ * distanceZ <= skullRenderDistanceSquared;
+    }
+
     private void assignSkullEntity(Skull skull) {
         if (skull.entity != null) {
             return;
@@ -234,22 +323,40 @@ public class SkullCache {
         freeSkullEntity(skull);
 
         if (cullingEnabled) {
-            inRangeSkulls.remove(skull);
-            if (hadEntity && inRangeSkulls.size() >= maxVisibleSkulls) {
-                // Reassign entity to the closest skull without an entity
-                assignSkullEntity(inRangeSkulls.get(maxVisibleSkulls - 1));
+            int index = inRangeSkulls.indexOf(skull);
+            if (index != -1) {
+                inRangeSkulls.remove(index);
+                if (index < maxVisibleSkulls && inRangeSkulls.size() >= maxVisibleSkulls) {
+                    // Move the closest skull without an entity into the visible skulls
+                    int closestIndex = maxVisibleSkulls - 1;
+                    for (int i = maxVisibleSkulls; i < inRangeSkulls.size(); i++) {
+                        if (inRangeSkulls.get(i).distanceSquared < inRangeSkulls.get(closestIndex).distanceSquared) {
+                            closestIndex = i;
+                        }
+                    }
+                    Collections.swap(inRangeSkulls, maxVisibleSkulls - 1, closestIndex);
+
+                    if (hadEntity) {
+                        assignSkullEntity(inRangeSkulls.get(maxVisibleSkulls - 1));
+                    }
+                }
             }
         }
     }
 
     public void clear() {
         skulls.clear();
+        skullsByChunk.clear();
         inRangeSkulls.clear();
         unusedSkullEntities.clear();
         totalSkullEntities = 0;
         lastPlayerPosition = null;
     }
 
+    private static long chunkKey(Vector3i position) {
+        return MathUtils.chunkPositionToLong(position.getX() >> 4, position.getZ() >> 4);
+    }
+
     private @Nullable BlockDefinition translateCustomSkull(String skinHash, BlockState blockState) {
         CustomSkull customSkull = BlockRegistries.CUSTOM_SKULLS.get(skinHash);
         if (customSkull != null) {
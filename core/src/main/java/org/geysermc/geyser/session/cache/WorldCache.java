@@ -34,10 +34,13 @@ import lombok.Setter;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.protocol.bedrock.packet.SetTitlePacket;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateSubChunkBlocksPacket;
+import org.geysermc.geyser.level.block.type.BlockState;
 import org.geysermc.geyser.scoreboard.Scoreboard;
 import org.geysermc.geyser.scoreboard.ScoreboardUpdater.ScoreboardSession;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.util.ChunkUtils;
+import org.geysermc.mcprotocollib.protocol.data.game.level.block.BlockChangeEntry;
 import org.geysermc.mcprotocollib.protocol.data.game.setting.Difficulty;
 
 import java.util.Iterator;
@@ -85,9 +88,17 @@ public final class WorldCache {
     }
 
     public int increaseAndGetScoreboardPacketsPerSecond() {
-        int pendingPps = scoreboardSession.getPendingPacketsPerSecond().incrementAndGet();
-        int pps = scoreboardSession.getPacketsPerSecond();
-        return Math.max(pps, pendingPps);
+        return scoreboardSession.increaseAndGetPacketsPerSecond();
+    }
+
+    /**
+     * Sends the pending scoreboard changes to the client, either directly or batched on the event loop
+     * if the server is sending more score and team packets than the configured threshold.
+     *
+     * @param pps the value returned by {@link #increaseAndGetScoreboardPacketsPerSecond()}
+     */
+    public void updateScoreboard(int pps) {
+        scoreboardSession.update(pps);
     }
 
     public void markTitleTimesAsIncorrect() {
@@ -173,6 +184,31 @@ public final class WorldCache {
         ChunkUtils.updateBlock(session, blockState, position);
     }
 
+    /**
+     * Updates every block in a chunk section, sending as many as possible in one sub-chunk block update.
+     */
+    public void updateServerCorrectBlockStates(int chunkX, int chunkY, int chunkZ, BlockChangeEntry[] entries) {
+        UpdateSubChunkBlocksPacket packet = new UpdateSubChunkBlocksPacket();
+        packet.setChunkX(chunkX);
+        packet.setChunkY(chunkY);
+        packet.setChunkZ(chunkZ);
+
+        for (BlockChangeEntry entry : entries) {
+            Vector3i position = entry.getPosition();
+            if (!this.unverifiedPredictions.isEmpty()) {
+                this.unverifiedPredictions.removeInt(position);
+            }
+
+            if (!ChunkUtils.updateBlockBatched(session, BlockState.of(entry.getBlock()), position, packet)) {
+                ChunkUtils.updateBlock(session, entry.getBlock(), position);
+            }
+        }
+
+        if (!packet.getStandardBlocks().isEmpty()) {
+            session.sendUpstreamPacket(packet);
+        }
+    }
+
     public void endPredictionsUpTo(int sequence) {
         if (this.unverifiedPredictions.isEmpty()) {
             return;
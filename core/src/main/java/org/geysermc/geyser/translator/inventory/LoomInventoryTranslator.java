@@ -53,7 +53,6 @@ import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponen
 import org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.inventory.ServerboundContainerButtonClickPacket;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 
 public class LoomInventoryTranslator extends AbstractBlockInventoryTranslator {
@@ -157,15 +156,12 @@ public class LoomInventoryTranslator extends AbstractBlockInventoryTranslator {
         GeyserItemStack inputCopy = inventory.getItem(0).copy(1);
         inputCopy.setNetId(session.getNextItemNetId());
         // Add the pattern manually, for better item synchronization
-        if (inputCopy.getComponents() == null) {
-            inputCopy.setComponents(new DataComponents(new HashMap<>()));
-        }
-
         BannerPatternLayer bannerPatternLayer = BannerItem.getJavaBannerPattern(session, pattern); // TODO
         if (bannerPatternLayer != null) {
-            List<BannerPatternLayer> patternsList = inputCopy.getComponents().getOrDefault(DataComponentType.BANNER_PATTERNS, new ArrayList<>());
+            DataComponents components = inputCopy.getOrCreateComponents();
+            List<BannerPatternLayer> patternsList = components.getOrDefault(DataComponentType.BANNER_PATTERNS, new ArrayList<>());
             patternsList.add(bannerPatternLayer);
-            inputCopy.getComponents().put(DataComponentType.BANNER_PATTERNS, patternsList);
+            components.put(DataComponentType.BANNER_PATTERNS, patternsList);
         }
 
         // Set the new item as the output
@@ -25,9 +25,12 @@
 
 package org.geysermc.geyser.translator.inventory;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.protocol.bedrock.data.inventory.ContainerId;
 import org.cloudburstmc.protocol.bedrock.data.inventory.ContainerSlotType;
 import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
@@ -69,43 +72,88 @@ public class PlayerInventoryTranslator extends InventoryTranslator {
 
     @Override
     public void updateInventory(GeyserSession session, Inventory inventory) {
+        PlayerInventory sentItems = getSentItemsTracker(session, inventory);
+
         updateCraftingGrid(session, inventory);
 
-        InventoryContentPacket inventoryContentPacket = new InventoryContentPacket();
-        inventoryContentPacket.setContainerId(ContainerId.INVENTORY);
+        // Inventory and hotbar
         ItemData[] contents = new ItemData[36];
-        // Inventory
-        for (int i = 9; i < 36; i++) {
-            contents[i] = inventory.getItem(i).getItemData(session);
-        }
-        // Hotbar
-        for (int i = 36; i < 45; i++) {
-            contents[i - 36] = inventory.getItem(i).getItemData(session);
+        IntList changedSlots = new IntArrayList(contents.length);
+        for (int i = 9; i < 45; i++) {
+            // Hotbar is sent as the first nine Bedrock slots
+            int bedrockSlot = i >= 36 ? i - 36 : i;
+            contents[bedrockSlot] = inventory.getItem(i).getItemData(session);
+            if (sentItems == null || sentItems.updateSentItem(i, contents[bedrockSlot])) {
+                changedSlots.add(bedrockSlot);
+            }
         }
-        inventoryContentPacket.setContents(Arrays.asList(contents));
-        session.sendUpstreamPacket(inventoryContentPacket);
+        sendChangedContents(session, ContainerId.INVENTORY, contents, changedSlots);
 
         // Armor
-        InventoryContentPacket armorContentPacket = new InventoryContentPacket();
-        armorContentPacket.setContainerId(ContainerId.ARMOR);
         contents = new ItemData[4];
+        changedSlots = new IntArrayList(contents.length);
         for (int i = 5; i < 9; i++) {
             GeyserItemStack item = inventory.getItem(i);
             contents[i - 5] = item.getItemData(session);
+            if (sentItems == null || sentItems.updateSentItem(i, contents[i - 5])) {
+                changedSlots.add(i - 5);
+            }
             if (i == 5 &&
                     item.asItem() == Items.PLAYER_HEAD &&
                     item.getComponents() != null) {
                 FakeHeadProvider.setHead(session, session.getPlayerEntity(), item.getComponents());
             }
         }
-        armorContentPacket.setContents(Arrays.asList(contents));
-        session.sendUpstreamPacket(armorContentPacket);
+        sendChangedContents(session, ContainerId.ARMOR, contents, changedSlots);
 
         // Offhand
-        InventoryContentPacket offhandPacket = new InventoryContentPacket();
-        offhandPacket.setContainerId(ContainerId.OFFHAND);
-        offhandPacket.setContents(Collections.singletonList(inventory.getItem(45).getItemData(session)));
-        session.sendUpstreamPacket(offhandPacket);
+        ItemData offhand = inventory.getItem(45).getItemData(session);
+        if (sentItems == null || sentItems.updateSentItem(45, offhand)) {
+            InventoryContentPacket offhandPacket = new InventoryContentPacket();
+            offhandPacket.setContainerId(ContainerId.OFFHAND);
+            offhandPacket.setContents(Collections.singletonList(offhand));
+            session.sendUpstreamPacket(offhandPacket);
+        }
+    }
+
+    /**
+     * Sends only the slots that changed since the last update, or the whole container if most of it changed.
+     */
+    private static void sendChangedContents(GeyserSession session, int containerId, ItemData[] contents, IntList changedSlots) {
+        if (changedSlots.isEmpty()) {
+            return;
+        }
+
+        if (changedSlots.size() * 2 >= contents.length) {
+            InventoryContentPacket contentPacket = new InventoryContentPacket();
+            contentPacket.setContainerId(containerId);
+            contentPacket.setContents(Arrays.asList(contents));
+            session.sendUpstreamPacket(contentPacket);
+            return;
+        }
+
+        for (int i = 0; i < changedSlots.size(); i++) {
+            int slot = changedSlots.getInt(i);
+            InventorySlotPacket slotPacket = new InventorySlotPacket();
+            slotPacket.setContainerId(containerId);
+            slotPacket.setSlot(slot);
+            slotPacket.setItem(contents[slot]);
+            session.sendUpstreamPacket(slotPacket);
+        }
+    }
+
+    /**
+     * Returns the player inventory whose sent items can be compared against, or null if every slot must be sent.
+     * While another container is open, its translator sends the player's slots as well, so nothing is tracked.
+     */
+    private static @Nullable PlayerInventory getSentItemsTracker(GeyserSession session, Inventory inventory) {
+        PlayerInventory playerInventory = session.getPlayerInventory();
+        Inventory openInventory = session.getOpenInventory();
+        if (inventory != playerInventory || (openInventory != null && openInventory != playerInventory)) {
+            playerInventory.clearSentItems();
+            return null;
+        }
+        return playerInventory;
     }
 
     /**
@@ -114,18 +162,25 @@ public class PlayerInventoryTranslator extends InventoryTranslator {
      * @param inventory Inventory of the player
      */
     public static void updateCraftingGrid(GeyserSession session, Inventory inventory) {
+        PlayerInventory sentItems = getSentItemsTracker(session, inventory);
+
         // Crafting grid
         for (int i = 1; i < 5; i++) {
-            InventorySlotPacket slotPacket = new InventorySlotPacket();
-            slotPacket.setContainerId(ContainerId.UI);
-            slotPacket.setSlot(i + 27);
-
+            ItemData item;
             if (session.getGameMode() == GameMode.CREATIVE) {
-                slotPacket.setItem(UNUSUABLE_CRAFTING_SPACE_BLOCK.apply(session.getUpstream().getProtocolVersion()));
+                item = UNUSUABLE_CRAFTING_SPACE_BLOCK.apply(session.getUpstream().getProtocolVersion());
             } else {
-                slotPacket.setItem(ItemTranslator.translateToBedrock(session, inventory.getItem(i).getItemStack()));
+                item = inventory.getItem(i).getItemData(session);
             }
 
+            if (sentItems != null && !sentItems.updateSentItem(i, item)) {
+                continue;
+            }
+
+            InventorySlotPacket slotPacket = new InventorySlotPacket();
+            slotPacket.setContainerId(ContainerId.UI);
+            slotPacket.setSlot(i + 27);
+            slotPacket.setItem(item);
             session.sendUpstreamPacket(slotPacket);
         }
     }
@@ -145,6 +200,12 @@ public class PlayerInventoryTranslator extends InventoryTranslator {
             }
         }
 
+        // Always sent, as the server may be correcting something the client did by itself
+        PlayerInventory sentItems = getSentItemsTracker(session, inventory);
+        if (sentItems != null && slot >= 1 && slot <= 45) {
+            sentItems.updateSentItem(slot, bedrockItem);
+        }
+
         if (slot >= 1 && slot <= 44) {
             InventorySlotPacket slotPacket = new InventorySlotPacket();
             if (slot >= 9) {
@@ -54,7 +54,7 @@ import java.util.Map;
 import java.util.UUID;
 
 @BlockEntity(type = BlockEntityType.VAULT)
-public class VaultBlockEntityTranslator extends BlockEntityTranslator {
+public class VaultBlockEntityTranslator extends BlockEntityTranslator implements RequiresEventLoop {
     // Bedrock 1.21 does not send the position nor ID in the tag.
     @Override
     public NbtMap getBlockEntityTag(GeyserSession session, BlockEntityType type, int x, int y, int z, @Nullable NbtMap javaNbt, BlockState blockState) {
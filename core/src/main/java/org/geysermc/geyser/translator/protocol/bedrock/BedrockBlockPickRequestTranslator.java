@@ -32,6 +32,7 @@ import org.geysermc.geyser.entity.type.ItemFrameEntity;
 import org.geysermc.geyser.item.Items;
 import org.geysermc.geyser.level.block.Blocks;
 import org.geysermc.geyser.level.block.type.BannerBlock;
+import org.geysermc.geyser.level.block.type.Block;
 import org.geysermc.geyser.level.block.type.BlockState;
 import org.geysermc.geyser.level.block.type.SkullBlock;
 import org.geysermc.geyser.session.GeyserSession;
@@ -45,9 +46,15 @@ public class BedrockBlockPickRequestTranslator extends PacketTranslator<BlockPic
 
     @Override
     public void translate(GeyserSession session, BlockPickRequestPacket packet) {
+        // Don't hold up the session thread while an Erosion backend looks the block up
+        session.getGeyser().getWorldManager().getBlockAtAsync(session, packet.getBlockPosition())
+                .whenComplete((blockId, ex) -> session.ensureInEventLoop(() ->
+                        pickBlock(session, packet, BlockState.of(blockId == null ? Block.JAVA_AIR_ID : blockId))));
+    }
+
+    private void pickBlock(GeyserSession session, BlockPickRequestPacket packet, BlockState blockToPick) {
         Vector3i vector = packet.getBlockPosition();
-        BlockState blockToPick = session.getGeyser().getWorldManager().blockAt(session, vector.getX(), vector.getY(), vector.getZ());
-        
+
         // Block is air - chunk caching is probably off
         if (blockToPick.is(Blocks.AIR)) {
             // Check for an item frame since the client thinks that's a block when it's an entity in Java
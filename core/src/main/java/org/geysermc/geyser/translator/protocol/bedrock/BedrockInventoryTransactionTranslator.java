@@ -97,6 +97,9 @@ public class BedrockInventoryTransactionTranslator extends PacketTranslator<Inve
 
     @Override
     public void translate(GeyserSession session, InventoryTransactionPacket packet) {
+        // The client may have already changed its inventory by itself
+        session.getPlayerInventory().clearSentItems();
+
         if (packet.getTransactionType() == InventoryTransactionType.NORMAL && packet.getActions().size() == 3) {
             InventoryActionData containerAction = packet.getActions().get(0);
             if (containerAction.getSource().getType() == InventorySource.Type.CONTAINER &&
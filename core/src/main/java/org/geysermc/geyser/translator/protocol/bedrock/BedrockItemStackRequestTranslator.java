@@ -40,6 +40,9 @@ public class BedrockItemStackRequestTranslator extends PacketTranslator<ItemStac
 
     @Override
     public void translate(GeyserSession session, ItemStackRequestPacket packet) {
+        // The client has already changed its inventory by itself
+        session.getPlayerInventory().clearSentItems();
+
         Inventory inventory = session.getOpenInventory();
         if (inventory == null)
             return;
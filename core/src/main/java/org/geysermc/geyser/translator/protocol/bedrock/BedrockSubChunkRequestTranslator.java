@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.translator.protocol.bedrock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.cloudburstmc.math.vector.Vector3i;
+import org.cloudburstmc.protocol.bedrock.data.HeightMapDataType;
+import org.cloudburstmc.protocol.bedrock.data.SubChunkData;
+import org.cloudburstmc.protocol.bedrock.data.SubChunkRequestResult;
+import org.cloudburstmc.protocol.bedrock.packet.SubChunkPacket;
+import org.cloudburstmc.protocol.bedrock.packet.SubChunkRequestPacket;
+import org.geysermc.geyser.level.chunk.BedrockChunkColumn;
+import org.geysermc.geyser.level.chunk.GeyserChunkSection;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.translator.protocol.PacketTranslator;
+import org.geysermc.geyser.translator.protocol.Translator;
+import org.geysermc.geyser.util.DimensionUtils;
+
+import java.io.IOException;
+
+/**
+ * Sent by the client when it wants the sections of chunks that were sent with sub chunk requests enabled.
+ */
+@Translator(packet = SubChunkRequestPacket.class)
+public class BedrockSubChunkRequestTranslator extends PacketTranslator<SubChunkRequestPacket> {
+
+    @Override
+    public void translate(GeyserSession session, SubChunkRequestPacket packet) {
+        if (!session.getChunkCache().isSubChunkRequests()) {
+            return;
+        }
+
+        int dimension = DimensionUtils.javaToBedrock(session.getChunkCache().getBedrockDimension());
+        Vector3i center = packet.getSubChunkPosition();
+
+        SubChunkPacket subChunkPacket = new SubChunkPacket();
+        subChunkPacket.setDimension(dimension);
+        subChunkPacket.setCenterPosition(center);
+
+        for (Vector3i offset : packet.getPositionOffsets()) {
+            SubChunkData data = new SubChunkData();
+            data.setPosition(offset);
+            data.setHeightMapType(HeightMapDataType.NO_DATA);
+            data.setHeightMapData(Unpooled.EMPTY_BUFFER);
+            data.setData(Unpooled.EMPTY_BUFFER);
+            subChunkPacket.getSubChunks().add(data);
+
+            if (packet.getDimension() != dimension) {
+                data.setResult(SubChunkRequestResult.INVALID_DIMENSION);
+                continue;
+            }
+
+            int chunkX = center.getX() + offset.getX();
+            int sectionY = center.getY() + offset.getY();
+            int chunkZ = center.getZ() + offset.getZ();
+
+            BedrockChunkColumn column = session.getChunkCache().getBedrockColumn(chunkX, chunkZ);
+            if (column == null) {
+                data.setResult(SubChunkRequestResult.CHUNK_NOT_FOUND);
+                continue;
+            }
+            if (!column.isInBounds(sectionY)) {
+                data.setResult(SubChunkRequestResult.INDEX_OUT_OF_BOUNDS);
+                continue;
+            }
+
+            GeyserChunkSection section = column.getSection(sectionY);
+            if (section == null || section.isEmpty()) {
+                data.setResult(SubChunkRequestResult.SUCCESS_ALL_AIR);
+                continue;
+            }
+
+            // Not pooled, as the sub chunk packet does not release its data
+            ByteBuf byteBuf = Unpooled.buffer(section.estimateNetworkSize());
+            try {
+                section.writeToNetwork(byteBuf);
+                column.writeBlockEntities(byteBuf, sectionY);
+            } catch (IOException e) {
+                session.getGeyser().getLogger().error("IO error while encoding sub chunk", e);
+                data.setResult(SubChunkRequestResult.CHUNK_NOT_FOUND);
+                continue;
+            }
+            data.setData(byteBuf);
+            data.setResult(SubChunkRequestResult.SUCCESS);
+        }
+
+        session.sendUpstreamPacket(subChunkPacket);
+    }
+}
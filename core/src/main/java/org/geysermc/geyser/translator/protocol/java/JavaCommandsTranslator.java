@@ -26,6 +26,8 @@
 package org.geysermc.geyser.translator.protocol.java;
 
 import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import it.unimi.dsi.fastutil.Hash;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
@@ -98,6 +100,14 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
         }
     };
 
+    /**
+     * Players on the same server with the same permissions are usually sent the same commands, so translated commands
+     * are shared between sessions.
+     */
+    private static final Cache<CommandsKey, Map<BedrockCommandInfo, Set<String>>> TRANSLATED_COMMANDS = CacheBuilder.newBuilder()
+            .maximumSize(32)
+            .build();
+
     static {
         List<String> validColors = new ArrayList<>(NamedTextColor.NAMES.keys());
         validColors.add("reset");
@@ -122,38 +132,18 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
             return;
         }
 
-        GeyserCommandManager manager = session.getGeyser().commandManager();
-        CommandNode[] nodes = packet.getNodes();
-        List<CommandData> commandData = new ArrayList<>();
-        IntSet commandNodes = new IntOpenHashSet();
-        Set<String> knownAliases = new HashSet<>();
-        Map<BedrockCommandInfo, Set<String>> commands = new Object2ObjectOpenCustomHashMap<>(PARAM_STRATEGY);
-        Int2ObjectMap<List<CommandNode>> commandArgs = new Int2ObjectOpenHashMap<>();
-
-        // Get the first node, it should be a root node
-        CommandNode rootNode = nodes[packet.getFirstNodeIndex()];
-
-        // Loop through the root nodes to get all commands
-        for (int nodeIndex : rootNode.getChildIndices()) {
-            CommandNode node = nodes[nodeIndex];
-
-            // Make sure we don't have duplicated commands (happens if there is more than 1 root node)
-            if (!commandNodes.add(nodeIndex) || !knownAliases.add(node.getName().toLowerCase(Locale.ROOT))) continue;
-
-            // Get and update the commandArgs list with the found arguments
-            if (node.getChildIndices().length >= 1) {
-                for (int childIndex : node.getChildIndices()) {
-                    commandArgs.computeIfAbsent(nodeIndex, ($) -> new ArrayList<>()).add(nodes[childIndex]);
-                }
-            }
-
-            // Get and parse all params
-            CommandOverloadData[] params = getParams(session, nodes[nodeIndex], nodes);
-
-            // Insert the alias name into the command list
-            commands.computeIfAbsent(new BedrockCommandInfo(node.getName().toLowerCase(Locale.ROOT), manager.description(node.getName().toLowerCase(Locale.ROOT)), params),
-                    index -> new HashSet<>()).add(node.getName().toLowerCase());
+        CommandBuilderContext context = new CommandBuilderContext(session);
+        String[] levels = session.getLevels();
+        CommandsKey key = new CommandsKey(packet, levels == null ? null : List.of(levels), List.of(context.getEnchantments()),
+                List.copyOf(context.getTeams().getValues().keySet()));
+        Map<BedrockCommandInfo, Set<String>> translatedCommands = TRANSLATED_COMMANDS.getIfPresent(key);
+        if (translatedCommands == null) {
+            translatedCommands = translateCommands(session.getGeyser().commandManager(), context, packet);
+            TRANSLATED_COMMANDS.put(key, translatedCommands);
         }
+        // Copied, as event listeners may remove commands
+        Map<BedrockCommandInfo, Set<String>> commands = new Object2ObjectOpenCustomHashMap<>(translatedCommands, PARAM_STRATEGY);
+        List<CommandData> commandData = new ArrayList<>();
 
         var eventBus = session.getGeyser().eventBus();
 
@@ -200,15 +190,53 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
         session.sendUpstreamPacket(availableCommandsPacket);
     }
 
+    /**
+     * Translates all commands of the packet to Bedrock, grouping aliases with the same parameters.
+     */
+    private static Map<BedrockCommandInfo, Set<String>> translateCommands(GeyserCommandManager manager, CommandBuilderContext context,
+                                                                          ClientboundCommandsPacket packet) {
+        CommandNode[] nodes = packet.getNodes();
+        IntSet commandNodes = new IntOpenHashSet();
+        Set<String> knownAliases = new HashSet<>();
+        Map<BedrockCommandInfo, Set<String>> commands = new Object2ObjectOpenCustomHashMap<>(PARAM_STRATEGY);
+        Int2ObjectMap<List<CommandNode>> commandArgs = new Int2ObjectOpenHashMap<>();
+
+        // Get the first node, it should be a root node
+        CommandNode rootNode = nodes[packet.getFirstNodeIndex()];
+
+        // Loop through the root nodes to get all commands
+        for (int nodeIndex : rootNode.getChildIndices()) {
+            CommandNode node = nodes[nodeIndex];
+
+            // Make sure we don't have duplicated commands (happens if there is more than 1 root node)
+            if (!commandNodes.add(nodeIndex) || !knownAliases.add(node.getName().toLowerCase(Locale.ROOT))) continue;
+
+            // Get and update the commandArgs list with the found arguments
+            if (node.getChildIndices().length >= 1) {
+                for (int childIndex : node.getChildIndices()) {
+                    commandArgs.computeIfAbsent(nodeIndex, ($) -> new ArrayList<>()).add(nodes[childIndex]);
+                }
+            }
+
+            // Get and parse all params
+            CommandOverloadData[] params = getParams(context, nodes[nodeIndex], nodes);
+
+            // Insert the alias name into the command list
+            commands.computeIfAbsent(new BedrockCommandInfo(node.getName().toLowerCase(Locale.ROOT), manager.description(node.getName().toLowerCase(Locale.ROOT)), params),
+                    index -> new HashSet<>()).add(node.getName().toLowerCase());
+        }
+        return commands;
+    }
+
     /**
      * Build the command parameter array for the given command
      *
-     * @param session the session
+     * @param context the session's command context
      * @param commandNode The command to build the parameters for
      * @param allNodes    Every command node
      * @return An array of parameter option arrays
      */
-    private static CommandOverloadData[] getParams(GeyserSession session, CommandNode commandNode, CommandNode[] allNodes) {
+    private static CommandOverloadData[] getParams(CommandBuilderContext context, CommandNode commandNode, CommandNode[] allNodes) {
         // Check if the command is an alias and redirect it
         if (commandNode.getRedirectIndex().isPresent()) {
             int redirectIndex = commandNode.getRedirectIndex().getAsInt();
@@ -219,7 +247,7 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
         if (commandNode.getChildIndices().length >= 1) {
             // Create the root param node and build all the children
             ParamInfo rootParam = new ParamInfo(commandNode, null);
-            rootParam.buildChildren(new CommandBuilderContext(session), allNodes);
+            rootParam.buildChildren(context, allNodes);
 
             List<CommandOverloadData> treeData = rootParam.getTree();
 
@@ -285,6 +313,12 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
     {
     }
 
+    /**
+     * Everything besides the packet that the translated commands depend on.
+     */
+    private record CommandsKey(ClientboundCommandsPacket packet, List<String> levels, List<String> enchantments, List<String> teams) {
+    }
+
     /**
      * Stores command completions so we don't have to rebuild the same values multiple times.
      */
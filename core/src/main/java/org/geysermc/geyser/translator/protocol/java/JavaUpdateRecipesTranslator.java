@@ -25,9 +25,13 @@
 
 package org.geysermc.geyser.translator.protocol.java;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import it.unimi.dsi.fastutil.ints.*;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
+import net.kyori.adventure.key.Key;
 import org.cloudburstmc.protocol.bedrock.data.definitions.ItemDefinition;
 import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
 import org.cloudburstmc.protocol.bedrock.data.inventory.crafting.RecipeUnlockingRequirement;
@@ -48,6 +52,7 @@ import org.geysermc.geyser.translator.item.ItemTranslator;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
 import org.geysermc.geyser.util.InventoryUtils;
+import org.geysermc.mcprotocollib.protocol.data.game.RegistryEntry;
 import org.geysermc.mcprotocollib.protocol.data.game.item.ItemStack;
 import org.geysermc.mcprotocollib.protocol.data.game.recipe.Ingredient;
 import org.geysermc.mcprotocollib.protocol.data.game.recipe.Recipe;
@@ -101,17 +106,57 @@ public class JavaUpdateRecipesTranslator extends PacketTranslator<ClientboundUpd
         "minecraft:wooden_slab", "minecraft:wooden_slabs",
         "minecraft:planks", "minecraft:planks");
 
+    /**
+     * Servers usually send the same recipes to every player, so translated recipes are shared between sessions
+     * on the same Bedrock version and backend server.
+     */
+    private static final Cache<RecipesKey, TranslatedRecipes> TRANSLATED_RECIPES = CacheBuilder.newBuilder()
+            .maximumSize(16)
+            .build();
+
     @Override
     public void translate(GeyserSession session, ClientboundUpdateRecipesPacket packet) {
-        boolean sendTrimRecipes = false;
+        RecipesKey key = new RecipesKey(packet, session.getUpstream().getProtocolVersion(), session.locale(),
+                session.isAdvancedTooltips(), session.getRegistryCache().registryData());
+        TranslatedRecipes recipes = TRANSLATED_RECIPES.getIfPresent(key);
+        if (recipes == null) {
+            recipes = translateRecipes(session, packet);
+            TRANSLATED_RECIPES.put(key, recipes);
+        }
+
         Map<String, List<String>> recipeIDs = session.getJavaToBedrockRecipeIds();
         recipeIDs.clear();
-        Int2ObjectMap<GeyserRecipe> recipeMap = new Int2ObjectOpenHashMap<>();
-        Int2ObjectMap<List<StoneCuttingRecipeData>> unsortedStonecutterData = new Int2ObjectOpenHashMap<>();
+        recipeIDs.putAll(recipes.javaToBedrockRecipeIds());
+        session.getLastRecipeNetId().set(recipes.lastRecipeNetId());
+
         CraftingDataPacket craftingDataPacket = new CraftingDataPacket();
         craftingDataPacket.setCleanRecipes(true);
+        craftingDataPacket.getCraftingData().addAll(recipes.craftingData());
+        craftingDataPacket.getPotionMixData().addAll(Registries.POTION_MIXES.forVersion(session.getUpstream().getProtocolVersion()));
 
-        RecipeContext context = new RecipeContext(session, craftingDataPacket, recipeMap);
+        // Only send smithing trim recipes if Java/ViaVersion sends them.
+        if (recipes.sendTrimRecipes()) {
+            // BDS sends armor trim templates and materials before the CraftingDataPacket
+            TrimDataPacket trimDataPacket = new TrimDataPacket();
+            trimDataPacket.getPatterns().addAll(session.getRegistryCache().trimPatterns().values());
+            trimDataPacket.getMaterials().addAll(session.getRegistryCache().trimMaterials().values());
+            session.sendUpstreamPacket(trimDataPacket);
+        }
+        session.setOldSmithingTable(!recipes.sendTrimRecipes());
+        session.sendUpstreamPacket(craftingDataPacket);
+        // Copied, as recipes can be added to the session later on
+        session.setCraftingRecipes(new Int2ObjectOpenHashMap<>(recipes.craftingRecipes()));
+        session.setStonecutterRecipes(recipes.stonecutterRecipes());
+    }
+
+    private TranslatedRecipes translateRecipes(GeyserSession session, ClientboundUpdateRecipesPacket packet) {
+        boolean sendTrimRecipes = false;
+        Map<String, List<String>> recipeIDs = new Object2ObjectOpenHashMap<>();
+        Int2ObjectMap<GeyserRecipe> recipeMap = new Int2ObjectOpenHashMap<>();
+        Int2ObjectMap<List<StoneCuttingRecipeData>> unsortedStonecutterData = new Int2ObjectOpenHashMap<>();
+        List<RecipeData> craftingData = new ArrayList<>();
+
+        RecipeContext context = new RecipeContext(session, craftingData, recipeMap, recipeIDs);
 
         for (Recipe recipe : packet.getRecipes()) {
             switch (recipe.getType()) {
@@ -119,14 +164,14 @@ public class JavaUpdateRecipesTranslator extends PacketTranslator<ClientboundUpd
                     ShapelessRecipeData shapelessRecipeData = (ShapelessRecipeData) recipe.getData();
                     List<String> bedrockRecipeIDs = context.translateShapelessRecipe(new GeyserShapelessRecipe(shapelessRecipeData));
                     if (bedrockRecipeIDs != null) {
-                        context.addRecipeIdentifier(session, recipe.getIdentifier().asString(), bedrockRecipeIDs);
+                        context.addRecipeIdentifier(recipe.getIdentifier().asString(), bedrockRecipeIDs);
                     }
                 }
                 case CRAFTING_SHAPED -> {
                     ShapedRecipeData shapedRecipeData = (ShapedRecipeData) recipe.getData();
                     List<String> bedrockRecipeIDs = context.translateShapedRecipe(new GeyserShapedRecipe(shapedRecipeData));
                     if (bedrockRecipeIDs != null) {
-                        context.addRecipeIdentifier(session, recipe.getIdentifier().asString(), bedrockRecipeIDs);
+                        context.addRecipeIdentifier(recipe.getIdentifier().asString(), bedrockRecipeIDs);
                     }
                 }
                 case STONECUTTING -> {
@@ -162,7 +207,7 @@ public class JavaUpdateRecipesTranslator extends PacketTranslator<ClientboundUpd
 
                                 String id = recipe.getIdentifier().asString();
                                 // Note: vanilla inputs use aux value of Short.MAX_VALUE
-                                craftingDataPacket.getCraftingData().add(org.cloudburstmc.protocol.bedrock.data.inventory.crafting.recipe.SmithingTransformRecipeData.of(id,
+                                craftingData.add(org.cloudburstmc.protocol.bedrock.data.inventory.crafting.recipe.SmithingTransformRecipeData.of(id,
                                         bedrockTemplate, bedrockBase, bedrockAddition, output, "smithing_table", context.getAndIncrementNetId()));
 
                                 recipeIDs.put(id, new ArrayList<>(Collections.singletonList(id)));
@@ -177,19 +222,19 @@ public class JavaUpdateRecipesTranslator extends PacketTranslator<ClientboundUpd
                 case CRAFTING_DECORATED_POT -> {
                     // Paper 1.20 seems to send only one recipe, which seems to be hardcoded to include all recipes.
                     // We can send the equivalent Bedrock MultiRecipe! :)
-                    craftingDataPacket.getCraftingData().add(MultiRecipeData.of(UUID.fromString("685a742a-c42e-4a4e-88ea-5eb83fc98e5b"), context.getAndIncrementNetId()));
+                    craftingData.add(MultiRecipeData.of(UUID.fromString("685a742a-c42e-4a4e-88ea-5eb83fc98e5b"), context.getAndIncrementNetId()));
                 }
                 case CRAFTING_SPECIAL_BOOKCLONING -> {
-                    craftingDataPacket.getCraftingData().add(MultiRecipeData.of(UUID.fromString("d1ca6b84-338e-4f2f-9c6b-76cc8b4bd98d"), context.getAndIncrementNetId()));
+                    craftingData.add(MultiRecipeData.of(UUID.fromString("d1ca6b84-338e-4f2f-9c6b-76cc8b4bd98d"), context.getAndIncrementNetId()));
                 }
                 case CRAFTING_SPECIAL_REPAIRITEM -> {
-                    craftingDataPacket.getCraftingData().add(MultiRecipeData.of(UUID.fromString("00000000-0000-0000-0000-000000000001"), context.getAndIncrementNetId()));
+                    craftingData.add(MultiRecipeData.of(UUID.fromString("00000000-0000-0000-0000-000000000001"), context.getAndIncrementNetId()));
                 }
                 case CRAFTING_SPECIAL_MAPEXTENDING -> {
-                    craftingDataPacket.getCraftingData().add(MultiRecipeData.of(UUID.fromString("d392b075-4ba1-40ae-8789-af868d56f6ce"), context.getAndIncrementNetId()));
+                    craftingData.add(MultiRecipeData.of(UUID.fromString("d392b075-4ba1-40ae-8789-af868d56f6ce"), context.getAndIncrementNetId()));
                 }
                 case CRAFTING_SPECIAL_MAPCLONING -> {
-                    craftingDataPacket.getCraftingData().add(MultiRecipeData.of(UUID.fromString("85939755-ba10-4d9d-a4cc-efb7a8e943c4"), context.getAndIncrementNetId()));
+                    craftingData.add(MultiRecipeData.of(UUID.fromString("85939755-ba10-4d9d-a4cc-efb7a8e943c4"), context.getAndIncrementNetId()));
                 }
                 default -> {
                     List<GeyserRecipe> recipes = Registries.RECIPES.get(recipe.getType());
@@ -223,8 +268,7 @@ public class JavaUpdateRecipesTranslator extends PacketTranslator<ClientboundUpd
                 }
             }
         }
-        craftingDataPacket.getCraftingData().addAll(CARTOGRAPHY_RECIPES);
-        craftingDataPacket.getPotionMixData().addAll(Registries.POTION_MIXES.forVersion(session.getUpstream().getProtocolVersion()));
+        craftingData.addAll(CARTOGRAPHY_RECIPES);
 
         Int2ObjectMap<GeyserStonecutterData> stonecutterRecipeMap = new Int2ObjectOpenHashMap<>();
         for (Int2ObjectMap.Entry<List<StoneCuttingRecipeData>> data : unsortedStonecutterData.int2ObjectEntrySet()) {
@@ -249,7 +293,7 @@ public class JavaUpdateRecipesTranslator extends PacketTranslator<ClientboundUpd
                 }
                 UUID uuid = UUID.randomUUID();
                 // We need to register stonecutting recipes, so they show up on Bedrock
-                craftingDataPacket.getCraftingData().add(org.cloudburstmc.protocol.bedrock.data.inventory.crafting.recipe.ShapelessRecipeData.shapeless(uuid.toString(),
+                craftingData.add(org.cloudburstmc.protocol.bedrock.data.inventory.crafting.recipe.ShapelessRecipeData.shapeless(uuid.toString(),
                         Collections.singletonList(descriptor), Collections.singletonList(output), uuid, "stonecutter", 0, context.netId, RecipeUnlockingRequirement.INVALID));
 
                 // Save the recipe list for reference when crafting
@@ -260,28 +304,20 @@ public class JavaUpdateRecipesTranslator extends PacketTranslator<ClientboundUpd
             }
         }
 
-        session.getLastRecipeNetId().set(context.netId); // No increment
+        int lastRecipeNetId = context.netId; // No increment
 
-        // Only send smithing trim recipes if Java/ViaVersion sends them.
         if (sendTrimRecipes) {
-            // BDS sends armor trim templates and materials before the CraftingDataPacket
-            TrimDataPacket trimDataPacket = new TrimDataPacket();
-            trimDataPacket.getPatterns().addAll(session.getRegistryCache().trimPatterns().values());
-            trimDataPacket.getMaterials().addAll(session.getRegistryCache().trimMaterials().values());
-            session.sendUpstreamPacket(trimDataPacket);
-
             // Identical smithing_trim recipe sent by BDS that uses tag-descriptors, as the client seems to ignore the
             // approach of using many default-descriptors (which we do for smithing_transform)
-            craftingDataPacket.getCraftingData().add(SmithingTrimRecipeData.of(TrimRecipe.ID,
-                    TrimRecipe.BASE, TrimRecipe.ADDITION, TrimRecipe.TEMPLATE, "smithing_table", session.getLastRecipeNetId().getAndIncrement()));
+            craftingData.add(SmithingTrimRecipeData.of(TrimRecipe.ID,
+                    TrimRecipe.BASE, TrimRecipe.ADDITION, TrimRecipe.TEMPLATE, "smithing_table", lastRecipeNetId++));
         } else {
             // manually add recipes for the upgrade template (workaround), since Java pre-1.20 doesn't
-            craftingDataPacket.getCraftingData().addAll(getSmithingTransformRecipes(session));
+            for (String identifier : NETHERITE_UPGRADES) {
+                craftingData.add(getSmithingTransformRecipe(session, identifier, lastRecipeNetId++));
+            }
         }
-        session.setOldSmithingTable(!sendTrimRecipes);
-        session.sendUpstreamPacket(craftingDataPacket);
-        session.setCraftingRecipes(recipeMap);
-        session.setStonecutterRecipes(stonecutterRecipeMap);
+        return new TranslatedRecipes(craftingData, recipeIDs, recipeMap, stonecutterRecipeMap, lastRecipeNetId, sendTrimRecipes);
     }
 
     //TODO: rewrite
@@ -375,20 +411,15 @@ public class JavaUpdateRecipesTranslator extends PacketTranslator<ClientboundUpd
         return combinations;
     }
 
-    private List<RecipeData> getSmithingTransformRecipes(GeyserSession session) {
-        List<RecipeData> recipes = new ArrayList<>();
+    private RecipeData getSmithingTransformRecipe(GeyserSession session, String identifier, int netId) {
         ItemMapping template = session.getItemMappings().getStoredItems().upgradeTemplate();
-
-        for (String identifier : NETHERITE_UPGRADES) {
-            recipes.add(org.cloudburstmc.protocol.bedrock.data.inventory.crafting.recipe.SmithingTransformRecipeData.of(identifier + "_smithing",
-                    getDescriptorFromId(session, template.getBedrockIdentifier()),
-                    getDescriptorFromId(session, identifier.replace("netherite", "diamond")),
-                    getDescriptorFromId(session, "minecraft:netherite_ingot"),
-                    ItemData.builder().definition(Objects.requireNonNull(session.getItemMappings().getDefinition(identifier))).count(1).build(),
-                    "smithing_table",
-                    session.getLastRecipeNetId().getAndIncrement()));
-        }
-        return recipes;
+        return org.cloudburstmc.protocol.bedrock.data.inventory.crafting.recipe.SmithingTransformRecipeData.of(identifier + "_smithing",
+                getDescriptorFromId(session, template.getBedrockIdentifier()),
+                getDescriptorFromId(session, identifier.replace("netherite", "diamond")),
+                getDescriptorFromId(session, "minecraft:netherite_ingot"),
+                ItemData.builder().definition(Objects.requireNonNull(session.getItemMappings().getDefinition(identifier))).count(1).build(),
+                "smithing_table",
+                netId);
     }
 
     private ItemDescriptorWithCount getDescriptorFromId(GeyserSession session, String bedrockId) {
@@ -407,17 +438,39 @@ public class JavaUpdateRecipesTranslator extends PacketTranslator<ClientboundUpd
         int count;
     }
 
+    /**
+     * Everything the recipes packet is translated into that does not depend on the session it is sent to.
+     *
+     * @param craftingData the crafting data to send, excluding potion mixes
+     * @param craftingRecipes must be copied before being handed to a session
+     */
+    private record TranslatedRecipes(List<RecipeData> craftingData, Map<String, List<String>> javaToBedrockRecipeIds,
+                                     Int2ObjectMap<GeyserRecipe> craftingRecipes, Int2ObjectMap<GeyserStonecutterData> stonecutterRecipes,
+                                     int lastRecipeNetId, boolean sendTrimRecipes) {
+    }
+
+    /**
+     * Item translation depends on the item mappings of the Bedrock version, the locale for item names, whether
+     * advanced tooltips add lore, and the registries of the backend server (enchantments, trims and the like).
+     */
+    private record RecipesKey(ClientboundUpdateRecipesPacket packet, int protocolVersion, String locale,
+                              boolean advancedTooltips, Map<Key, List<RegistryEntry>> registryData) {
+    }
+
     private static final class RecipeContext {
         private final GeyserSession session;
-        private final CraftingDataPacket packet;
+        private final List<RecipeData> craftingData;
         private final Int2ObjectMap<GeyserRecipe> recipeMap;
+        private final Map<String, List<String>> recipeIDs;
         // Get the last known network ID (first used for some pregenerated recipes) and increment from there.
         private int netId = InventoryUtils.LAST_RECIPE_NET_ID + 1;
 
-        private RecipeContext(GeyserSession session, CraftingDataPacket packet, Int2ObjectMap<GeyserRecipe> recipeMap) {
+        private RecipeContext(GeyserSession session, List<RecipeData> craftingData, Int2ObjectMap<GeyserRecipe> recipeMap,
+                              Map<String, List<String>> recipeIDs) {
             this.session = session;
-            this.packet = packet;
+            this.craftingData = craftingData;
             this.recipeMap = recipeMap;
+            this.recipeIDs = recipeIDs;
         }
 
         List<String> translateShulkerBoxRecipe(GeyserShapelessRecipe recipe) {
@@ -437,7 +490,7 @@ public class JavaUpdateRecipesTranslator extends PacketTranslator<ClientboundUpd
             for (ItemDescriptorWithCount[] inputs : inputCombinations) {
                 UUID uuid = UUID.randomUUID();
                 bedrockRecipeIDs.add(uuid.toString());
-                packet.getCraftingData().add(org.cloudburstmc.protocol.bedrock.data.inventory.crafting.recipe.ShapelessRecipeData.shulkerBox(uuid.toString(),
+                craftingData.add(org.cloudburstmc.protocol.bedrock.data.inventory.crafting.recipe.ShapelessRecipeData.shulkerBox(uuid.toString(),
                         Arrays.asList(inputs), Collections.singletonList(output), uuid, "crafting_table", 0, netId));
                 recipeMap.put(netId++, recipe);
             }
@@ -461,7 +514,7 @@ public class JavaUpdateRecipesTranslator extends PacketTranslator<ClientboundUpd
             for (ItemDescriptorWithCount[] inputs : inputCombinations) {
                 UUID uuid = UUID.randomUUID();
                 bedrockRecipeIDs.add(uuid.toString());
-                packet.getCraftingData().add(org.cloudburstmc.protocol.bedrock.data.inventory.crafting.recipe.ShapelessRecipeData.shapeless(uuid.toString(),
+                craftingData.add(org.cloudburstmc.protocol.bedrock.data.inventory.crafting.recipe.ShapelessRecipeData.shapeless(uuid.toString(),
                         Arrays.asList(inputs), Collections.singletonList(output), uuid, "crafting_table", 0, netId, RecipeUnlockingRequirement.INVALID));
                 recipeMap.put(netId++, recipe);
             }
@@ -485,7 +538,7 @@ public class JavaUpdateRecipesTranslator extends PacketTranslator<ClientboundUpd
             for (ItemDescriptorWithCount[] inputs : inputCombinations) {
                 UUID uuid = UUID.randomUUID();
                 bedrockRecipeIDs.add(uuid.toString());
-                packet.getCraftingData().add(org.cloudburstmc.protocol.bedrock.data.inventory.crafting.recipe.ShapedRecipeData.shaped(uuid.toString(),
+                craftingData.add(org.cloudburstmc.protocol.bedrock.data.inventory.crafting.recipe.ShapedRecipeData.shaped(uuid.toString(),
                         recipe.width(), recipe.height(), Arrays.asList(inputs),
                         Collections.singletonList(output), uuid, "crafting_table", 0, netId, false, RecipeUnlockingRequirement.INVALID));
                 recipeMap.put(netId++, recipe);
@@ -504,11 +557,11 @@ public class JavaUpdateRecipesTranslator extends PacketTranslator<ClientboundUpd
                 default -> recipe.getIdentifier().asString();
             };
 
-            addRecipeIdentifier(session, javaRecipeID, identifiers);
+            addRecipeIdentifier(javaRecipeID, identifiers);
         }
 
-        void addRecipeIdentifier(GeyserSession session, String javaIdentifier, List<String> bedrockIdentifiers) {
-            session.getJavaToBedrockRecipeIds().computeIfAbsent(javaIdentifier, k -> new ArrayList<>()).addAll(bedrockIdentifiers);
+        void addRecipeIdentifier(String javaIdentifier, List<String> bedrockIdentifiers) {
+            recipeIDs.computeIfAbsent(javaIdentifier, k -> new ArrayList<>()).addAll(bedrockIdentifiers);
         }
 
         int getAndIncrementNetId() {
@@ -29,8 +29,12 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufOutputStream;
 import io.netty.buffer.Unpooled;
+import io.netty.util.AbstractReferenceCounted;
 import it.unimi.dsi.fastutil.ints.*;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.nbt.NBTOutputStream;
 import org.cloudburstmc.nbt.NbtMap;
@@ -42,16 +46,22 @@ import org.geysermc.geyser.level.BedrockDimension;
 import org.geysermc.geyser.level.block.Blocks;
 import org.geysermc.geyser.level.block.type.Block;
 import org.geysermc.geyser.level.block.type.BlockState;
+import org.geysermc.geyser.level.chunk.BedrockChunkColumn;
 import org.geysermc.geyser.level.chunk.BlockStorage;
+import org.geysermc.geyser.level.chunk.GeyserChunk;
 import org.geysermc.geyser.level.chunk.GeyserChunkSection;
+import org.geysermc.geyser.level.chunk.SharedChunkSectionCache;
 import org.geysermc.geyser.level.chunk.bitarray.BitArray;
 import org.geysermc.geyser.level.chunk.bitarray.BitArrayVersion;
 import org.geysermc.geyser.level.chunk.bitarray.SingletonBitArray;
 import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.session.ChunkTranslationPipeline;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ChunkBlobCache;
 import org.geysermc.geyser.translator.level.BiomeTranslator;
 import org.geysermc.geyser.translator.level.block.entity.BedrockChunkWantsBlockEntityTag;
 import org.geysermc.geyser.translator.level.block.entity.BlockEntityTranslator;
+import org.geysermc.geyser.translator.level.block.entity.RequiresEventLoop;
 import org.geysermc.geyser.translator.level.block.entity.SkullBlockEntityTranslator;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
@@ -71,7 +81,6 @@ import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.Clien
 import java.io.IOException;
 import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
 
 import static org.geysermc.geyser.util.ChunkUtils.*;
 
@@ -81,12 +90,25 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
 
     @Override
     public void translate(GeyserSession session, ClientboundLevelChunkWithLightPacket packet) {
-        final boolean useExtendedCollisions = !session.getBlockMappings().getExtendedCollisionBoxes().isEmpty();
-
         if (session.isSpawned()) {
             ChunkUtils.updateChunkPosition(session, session.getPlayerEntity().getPosition().toInt());
         }
 
+        if (ChunkTranslationPipeline.isEnabled()) {
+            // Java packets received after this chunk wait for it to be sent, so the session state read here can't change in the meantime
+            session.getChunkTranslationPipeline().submit(() -> translateChunk(session, packet), chunk -> sendChunk(session, packet, chunk));
+        } else {
+            sendChunk(session, packet, translateChunk(session, packet));
+        }
+    }
+
+    /**
+     * Converts the chunk sections and block entities to Bedrock, and encodes the chunk if no custom skulls or
+     * {@link RequiresEventLoop} block entities need to be added to it. This may run off of the session's event loop, so nothing in the session may be modified here.
+     */
+    private static @Nullable TranslatedChunk translateChunk(GeyserSession session, ClientboundLevelChunkWithLightPacket packet) {
+        final boolean useExtendedCollisions = !session.getBlockMappings().getExtendedCollisionBoxes().isEmpty();
+
         // Ensure that, if the player is using lower world heights, the position is not offset
         int yOffset = session.getChunkCache().getChunkMinY();
         int chunkSize = session.getChunkCache().getChunkHeightY();
@@ -103,9 +125,8 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
         BedrockDimension bedrockDimension = session.getChunkCache().getBedrockDimension();
         int maxBedrockSectionY = (bedrockDimension.height() >> 4) - 1;
 
-        int sectionCount;
-        byte[] payload;
-        ByteBuf byteBuf = null;
+        // If enabled, the client requests the sections it needs separately, and only biomes are sent here
+        boolean subChunkRequests = session.getChunkCache().isSubChunkRequests();
         GeyserChunkSection[] sections = new GeyserChunkSection[javaChunks.length - (yOffset + (bedrockDimension.minY() >> 4))];
 
         try {
@@ -273,6 +294,18 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                     }
                 }
 
+                // Sections without position-dependent side effects can be shared between all sessions
+                SharedChunkSectionCache.SectionKey sharedKey = null;
+                if (SharedChunkSectionCache.isEnabled() && !extendedCollision && bedrockOnlyBlockEntityIds.isEmpty()) {
+                    sharedKey = SharedChunkSectionCache.createKey(session.getBlockMappings(), javaPalette, javaData);
+                    GeyserChunkSection sharedSection = SharedChunkSectionCache.get(sharedKey, subChunkIndex);
+                    if (sharedSection != null) {
+                        sections[bedrockSectionY] = sharedSection;
+                        extendedCollisionNextSection = false;
+                        continue;
+                    }
+                }
+
                 // We need to ensure we use enough bits to represent extended collision blocks in the chunk section
                 int sectionCollisionBlocks = 0;
                 if (useExtendedCollisions) {
@@ -287,28 +320,21 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                 // Convert data array from YZX to XZY coordinate order
                 if (waterloggedPaletteIds.isEmpty() && !extendedCollision) {
                     // No blocks are waterlogged, simply convert coordinate order
-                    // This could probably be optimized further...
-                    for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
-                        int xzy = indexYZXtoXZY(yzx);
-                        bedrockData.set(xzy, paletteId);
-                    }
+                    bedrockData.setAllFromJava(javaData);
 
                     layers = new BlockStorage[]{ layer0 };
                 } else if (!waterloggedPaletteIds.isEmpty() && !extendedCollision) {
                     // The section contains waterlogged blocks, we need to convert coordinate order AND generate a V1 block storage for
                     // layer 1 with palette ID 1 indicating water
+                    bedrockData.setAllFromJava(javaData);
                     int[] layer1Data = new int[BlockStorage.SIZE >> 5];
                     for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
-                        int xzy = indexYZXtoXZY(yzx);
-                        bedrockData.set(xzy, paletteId);
-
-                        if (waterloggedPaletteIds.get(paletteId)) {
+                        if (waterloggedPaletteIds.get(javaData.get(yzx))) {
+                            int xzy = indexYZXtoXZY(yzx);
                             layer1Data[xzy >> 5] |= 1 << (xzy & 0x1F);
                         }
                     }
-                    
+
                     // V1 palette
                     IntList layer1Palette = IntList.of(
                             session.getBlockMappings().getBedrockAir().getRuntimeId(), // Air - see BlockStorage's constructor for more information
@@ -375,14 +401,16 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                     layers = new BlockStorage[]{ layer0, new BlockStorage(BitArrayVersion.V1.createArray(BlockStorage.SIZE, layer1Data), layer1Palette) };
                 }
 
-                sections[bedrockSectionY] = new GeyserChunkSection(layers, subChunkIndex);
+                GeyserChunkSection section = new GeyserChunkSection(layers, subChunkIndex);
+                if (sharedKey != null) {
+                    section = SharedChunkSectionCache.put(sharedKey, section);
+                }
+                sections[bedrockSectionY] = section;
                 extendedCollisionNextSection = thisExtendedCollisionNextSection;
             }
 
-            if (!session.getErosionHandler().isActive()) {
-                session.getChunkCache().addToCache(packet.getX(), packet.getZ(), javaChunks);
-            }
-
+            final List<CustomSkull> customSkulls = new ObjectArrayList<>();
+            final List<DeferredBlockEntity> deferredBlockEntities = new ObjectArrayList<>();
             final int chunkBlockX = packet.getX() << 4;
             final int chunkBlockZ = packet.getZ() << 4;
             for (BlockEntityInfo blockEntity : blockEntities) {
@@ -408,32 +436,146 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                 // The Java server can send block entity data for blocks that aren't actually those blocks.
                 // A Java client ignores these
                 if (type == blockState.block().blockEntityType()) {
-                    bedrockBlockEntities.add(blockEntityTranslator.getBlockEntityTag(session, type, x + chunkBlockX, y, z + chunkBlockZ, tag, blockState));
+                    if (blockEntityTranslator instanceof RequiresEventLoop) {
+                        // Translated once the chunk is sent
+                        deferredBlockEntities.add(new DeferredBlockEntity(blockEntityTranslator, type, x + chunkBlockX, y, z + chunkBlockZ, tag, blockState));
+                    } else {
+                        bedrockBlockEntities.add(blockEntityTranslator.getBlockEntityTag(session, type, x + chunkBlockX, y, z + chunkBlockZ, tag, blockState));
+                    }
 
                     // Check for custom skulls
                     if (session.getPreferencesCache().showCustomSkulls() && type == BlockEntityType.SKULL && tag != null && tag.containsKey("profile")) {
-                        BlockDefinition blockDefinition = SkullBlockEntityTranslator.translateSkull(session, tag, Vector3i.from(x + chunkBlockX, y, z + chunkBlockZ), blockState);
-                        if (blockDefinition != null) {
-                            int bedrockSectionY = (y >> 4) - (bedrockDimension.minY() >> 4);
-                            int subChunkIndex = (y >> 4) + (bedrockDimension.minY() >> 4);
-                            if (0 <= bedrockSectionY && bedrockSectionY < maxBedrockSectionY) {
-                                // Custom skull is in a section accepted by Bedrock
-                                GeyserChunkSection bedrockSection = sections[bedrockSectionY];
-                                IntList palette = bedrockSection.getBlockStorageArray()[0].getPalette();
-                                if (palette instanceof IntImmutableList || palette instanceof IntLists.Singleton) {
-                                    // TODO there has to be a better way to expand the palette .-.
-                                    bedrockSection = bedrockSection.copy(subChunkIndex);
-                                    sections[bedrockSectionY] = bedrockSection;
-                                }
-                                bedrockSection.setFullBlock(x, y & 0xF, z, 0, blockDefinition.getRuntimeId());
-                            }
+                        // The skull cache can only be changed on the event loop, so these are placed once the chunk is sent
+                        customSkulls.add(new CustomSkull(tag, Vector3i.from(x + chunkBlockX, y, z + chunkBlockZ), blockState));
+                    }
+                }
+            }
+
+            // Packing the sections for the chunk cache is done here too, so the event loop only has to store the result
+            GeyserChunk cachedChunk = null;
+            if (session.getChunkCache().isCaching() && (!session.getErosionHandler().isActive() || session.getGeyser().getConfig().isErosionChunkMirror())) {
+                cachedChunk = GeyserChunk.from(javaChunks);
+            }
+
+            TranslatedChunk chunk = new TranslatedChunk(cachedChunk, javaBiomes, sections, bedrockBlockEntities, customSkulls,
+                    deferredBlockEntities, bedrockDimension, yOffset, subChunkRequests);
+            if (!chunk.needsEventLoop()) {
+                encodeChunk(session, chunk);
+            }
+            return chunk;
+        } catch (IOException e) {
+            session.getGeyser().getLogger().error("IO error while encoding chunk", e);
+            return null;
+        }
+    }
+
+    /**
+     * Caches the chunk, places custom skulls and deferred block entities, and sends the chunk to the client. Must be called on the session's event loop.
+     */
+    private static void sendChunk(GeyserSession session, ClientboundLevelChunkWithLightPacket packet, @Nullable TranslatedChunk chunk) {
+        if (chunk == null) {
+            return;
+        }
+
+        try {
+            sendTranslatedChunk(session, packet, chunk);
+        } finally {
+            chunk.release();
+        }
+    }
+
+    private static void sendTranslatedChunk(GeyserSession session, ClientboundLevelChunkWithLightPacket packet, TranslatedChunk chunk) {
+        if (chunk.cachedChunk != null) {
+            session.getChunkCache().addToCache(packet.getX(), packet.getZ(), chunk.cachedChunk);
+        }
+
+        BedrockDimension bedrockDimension = chunk.bedrockDimension;
+        GeyserChunkSection[] sections = chunk.sections;
+        for (DeferredBlockEntity blockEntity : chunk.deferredBlockEntities) {
+            chunk.bedrockBlockEntities.add(blockEntity.translator().getBlockEntityTag(session, blockEntity.type(),
+                    blockEntity.x(), blockEntity.y(), blockEntity.z(), blockEntity.tag(), blockEntity.blockState()));
+        }
+
+        if (!chunk.customSkulls.isEmpty()) {
+            int maxBedrockSectionY = (bedrockDimension.height() >> 4) - 1;
+            for (CustomSkull skull : chunk.customSkulls) {
+                BlockDefinition blockDefinition = SkullBlockEntityTranslator.translateSkull(session, skull.tag(), skull.position(), skull.blockState());
+                if (blockDefinition != null) {
+                    int y = skull.position().getY();
+                    int bedrockSectionY = (y >> 4) - (bedrockDimension.minY() >> 4);
+                    int subChunkIndex = (y >> 4) + (bedrockDimension.minY() >> 4);
+                    if (0 <= bedrockSectionY && bedrockSectionY < maxBedrockSectionY) {
+                        // Custom skull is in a section accepted by Bedrock
+                        GeyserChunkSection bedrockSection = sections[bedrockSectionY];
+                        IntList palette = bedrockSection.getBlockStorageArray()[0].getPalette();
+                        if (bedrockSection.isShared() || palette instanceof IntImmutableList || palette instanceof IntLists.Singleton) {
+                            // TODO there has to be a better way to expand the palette .-.
+                            bedrockSection = bedrockSection.copy(subChunkIndex);
+                            sections[bedrockSectionY] = bedrockSection;
                         }
+                        bedrockSection.setFullBlock(skull.position().getX() & 0xF, y & 0xF, skull.position().getZ() & 0xF, 0, blockDefinition.getRuntimeId());
                     }
                 }
             }
+        }
+
+        if (chunk.needsEventLoop()) {
+            try {
+                encodeChunk(session, chunk);
+            } catch (IOException e) {
+                session.getGeyser().getLogger().error("IO error while encoding chunk", e);
+                return;
+            }
+        }
+
+        if (chunk.subChunkRequests) {
+            session.getChunkCache().addBedrockColumn(packet.getX(), packet.getZ(),
+                    new BedrockChunkColumn(sections, chunk.bedrockBlockEntities, bedrockDimension.minY() >> 4));
+        }
+
+        LevelChunkPacket levelChunkPacket = new LevelChunkPacket();
+        if (chunk.subChunkRequests) {
+            levelChunkPacket.setRequestSubChunks(true);
+            levelChunkPacket.setSubChunkLimit(chunk.sectionCount);
+        } else {
+            levelChunkPacket.setSubChunksLength(chunk.sectionCount);
+        }
+        levelChunkPacket.setCachingEnabled(chunk.blobIds != null);
+        if (chunk.blobIds != null) {
+            levelChunkPacket.getBlobIds().addAll(chunk.blobIds);
+        }
+        levelChunkPacket.setChunkX(packet.getX());
+        levelChunkPacket.setChunkZ(packet.getZ());
+        levelChunkPacket.setData(chunk.payload.retain());
+        levelChunkPacket.setDimension(DimensionUtils.javaToBedrock(bedrockDimension));
+        session.sendUpstreamPacket(levelChunkPacket);
 
+        for (ItemFrameEntity itemFrame : session.getItemFrameCache().getItemFramesInChunk(packet.getX(), packet.getZ())) {
+            // Update this item frame so it doesn't get lost in the abyss
+            itemFrame.updateBlock(true);
+        }
+    }
+
+    /**
+     * Writes the chunk into the payload of a {@link LevelChunkPacket}, or into blobs if the client blob cache is in use.
+     */
+    private static void encodeChunk(GeyserSession session, TranslatedChunk chunk) throws IOException {
+        GeyserChunkSection[] sections = chunk.sections;
+        List<NbtMap> bedrockBlockEntities = chunk.bedrockBlockEntities;
+        BedrockDimension bedrockDimension = chunk.bedrockDimension;
+        boolean subChunkRequests = chunk.subChunkRequests;
+        int yOffset = chunk.yOffset;
+        int chunkSize = chunk.javaBiomes.length;
+        DataPalette[] javaBiomes = chunk.javaBiomes;
+
+        ChunkBlobCache blobCache = session.getChunkBlobCache();
+        // If enabled, sections and biomes are sent as blob IDs that the client can look up in its own cache
+        LongList blobIds = blobCache.isEnabled() && !subChunkRequests ? new LongArrayList() : null;
+
+        ByteBuf byteBuf = null;
+        try {
             // Find highest section
-            sectionCount = sections.length - 1;
+            int sectionCount = sections.length - 1;
             while (sectionCount >= 0 && sections[sectionCount] == null) {
                 sectionCount--;
             }
@@ -444,7 +586,7 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
 
             // Estimate chunk size
             int size = 0;
-            for (int i = 0; i < sectionCount; i++) {
+            for (int i = 0; !subChunkRequests && i < sectionCount; i++) {
                 GeyserChunkSection section = sections[i];
                 if (section != null) {
                     size += section.estimateNetworkSize();
@@ -458,7 +600,7 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
 
             // Allocate output buffer
             byteBuf = ByteBufAllocator.DEFAULT.ioBuffer(size);
-            for (int i = 0; i < sectionCount; i++) {
+            for (int i = 0; !subChunkRequests && i < sectionCount; i++) {
                 GeyserChunkSection section = sections[i];
                 if (section != null) {
                     section.writeToNetwork(byteBuf);
@@ -466,6 +608,12 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                     int subChunkIndex = (i + (bedrockDimension.minY() >> 4));
                     new GeyserChunkSection(EMPTY_BLOCK_STORAGE, subChunkIndex).writeToNetwork(byteBuf);
                 }
+
+                if (blobIds != null) {
+                    // Every section is its own blob
+                    blobIds.add(blobCache.store(byteBuf));
+                    byteBuf.clear();
+                }
             }
 
             int dimensionOffset = bedrockDimension.minY() >> 4;
@@ -486,41 +634,32 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                 BiomeTranslator.toNewBedrockBiome(session, javaBiomes[i + (dimensionOffset - yOffset)]).writeToNetwork(byteBuf);
             }
 
+            if (blobIds != null) {
+                // All biome data makes up the last blob; border blocks and block entities are always sent directly
+                blobIds.add(blobCache.store(byteBuf));
+                byteBuf.clear();
+            }
+
             byteBuf.writeByte(0); // Border blocks - Edu edition only
 
-            // Encode tile entities into buffer
-            NBTOutputStream nbtStream = NbtUtils.createNetworkWriter(new ByteBufOutputStream(byteBuf));
-            for (NbtMap blockEntity : bedrockBlockEntities) {
-                nbtStream.writeTag(blockEntity);
+            // Encode tile entities into buffer - these are sent with their section instead when using sub chunk requests
+            if (!subChunkRequests) {
+                NBTOutputStream nbtStream = NbtUtils.createNetworkWriter(new ByteBufOutputStream(byteBuf));
+                for (NbtMap blockEntity : bedrockBlockEntities) {
+                    nbtStream.writeTag(blockEntity);
+                }
             }
-            payload = new byte[byteBuf.readableBytes()];
-            byteBuf.readBytes(payload);
-        } catch (IOException e) {
-            session.getGeyser().getLogger().error("IO error while encoding chunk", e);
-            return;
+
+            chunk.sectionCount = sectionCount;
+            chunk.blobIds = blobIds;
+            // The pooled buffer is handed to the chunk packet as is, which releases it once it has been encoded
+            chunk.payload = byteBuf;
+            byteBuf = null;
         } finally {
             if (byteBuf != null) {
                 byteBuf.release(); // Release buffer to allow buffer pooling to be useful
             }
         }
-
-        LevelChunkPacket levelChunkPacket = new LevelChunkPacket();
-        levelChunkPacket.setSubChunksLength(sectionCount);
-        levelChunkPacket.setCachingEnabled(false);
-        levelChunkPacket.setChunkX(packet.getX());
-        levelChunkPacket.setChunkZ(packet.getZ());
-        levelChunkPacket.setData(Unpooled.wrappedBuffer(payload));
-        levelChunkPacket.setDimension(DimensionUtils.javaToBedrock(session.getChunkCache().getBedrockDimension()));
-        session.sendUpstreamPacket(levelChunkPacket);
-
-        for (Map.Entry<Vector3i, ItemFrameEntity> entry : session.getItemFrameCache().entrySet()) {
-            Vector3i position = entry.getKey();
-            if ((position.getX() >> 4) == packet.getX() && (position.getZ() >> 4) == packet.getZ()) {
-                // Update this item frame so it doesn't get lost in the abyss
-                //TODO optimize
-                entry.getValue().updateBlock(true);
-            }
-        }
     }
 
     static final class ExtendedCollisionsStorage {
@@ -568,4 +707,67 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
             }
         }
     }
+
+    /**
+     * A chunk that has been converted to Bedrock, but that has not been sent yet. Releasing it releases the encoded payload.
+     */
+    private static final class TranslatedChunk extends AbstractReferenceCounted {
+        private final @Nullable GeyserChunk cachedChunk;
+        private final DataPalette[] javaBiomes;
+        private final GeyserChunkSection[] sections;
+        private final List<NbtMap> bedrockBlockEntities;
+        private final List<CustomSkull> customSkulls;
+        private final List<DeferredBlockEntity> deferredBlockEntities;
+        private final BedrockDimension bedrockDimension;
+        private final int yOffset;
+        private final boolean subChunkRequests;
+
+        /**
+         * Set once the chunk has been encoded.
+         */
+        private int sectionCount;
+        private @Nullable ByteBuf payload;
+        private @Nullable LongList blobIds;
+
+        TranslatedChunk(@Nullable GeyserChunk cachedChunk, DataPalette[] javaBiomes, GeyserChunkSection[] sections, List<NbtMap> bedrockBlockEntities,
+                        List<CustomSkull> customSkulls, List<DeferredBlockEntity> deferredBlockEntities,
+                        BedrockDimension bedrockDimension, int yOffset, boolean subChunkRequests) {
+            this.cachedChunk = cachedChunk;
+            this.javaBiomes = javaBiomes;
+            this.sections = sections;
+            this.bedrockBlockEntities = bedrockBlockEntities;
+            this.customSkulls = customSkulls;
+            this.deferredBlockEntities = deferredBlockEntities;
+            this.bedrockDimension = bedrockDimension;
+            this.yOffset = yOffset;
+            this.subChunkRequests = subChunkRequests;
+        }
+
+        /**
+         * @return if something has to be added to this chunk on the event loop, so it can only be encoded there
+         */
+        boolean needsEventLoop() {
+            return !customSkulls.isEmpty() || !deferredBlockEntities.isEmpty();
+        }
+
+        @Override
+        protected void deallocate() {
+            if (payload != null) {
+                payload.release();
+                payload = null;
+            }
+        }
+
+        @Override
+        public TranslatedChunk touch(Object hint) {
+            return this;
+        }
+    }
+
+    private record CustomSkull(NbtMap tag, Vector3i position, BlockState blockState) {
+    }
+
+    private record DeferredBlockEntity(BlockEntityTranslator translator, BlockEntityType type, int x, int y, int z,
+                                       @Nullable NbtMap tag, BlockState blockState) {
+    }
 }
@@ -25,6 +25,8 @@
 
 package org.geysermc.geyser.translator.protocol.java.level;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.geysermc.mcprotocollib.protocol.data.game.level.map.MapData;
 import org.geysermc.mcprotocollib.protocol.data.game.level.map.MapIcon;
 import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundMapItemDataPacket;
@@ -38,8 +40,26 @@ import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
 import org.geysermc.geyser.util.DimensionUtils;
 
+import java.util.Arrays;
+
 @Translator(packet = ClientboundMapItemDataPacket.class)
 public class JavaMapItemDataTranslator extends PacketTranslator<ClientboundMapItemDataPacket> {
+    /**
+     * Map art is usually sent unchanged to every player, so the translated colors are shared between sessions.
+     * The arrays are only ever read once they are in the cache.
+     */
+    private static final Cache<MapColorsKey, int[]> TRANSLATED_COLORS = CacheBuilder.newBuilder()
+            .maximumWeight(4 * 1024 * 1024) // ints, so 16 MB
+            .<MapColorsKey, int[]>weigher((key, colors) -> colors.length)
+            .build();
+
+    private static final int[] ARGB_BY_ID = new int[256];
+
+    static {
+        for (int i = 0; i < ARGB_BY_ID.length; i++) {
+            ARGB_BY_ID[i] = MapColor.fromId(i).getARGB();
+        }
+    }
 
     @Override
     public void translate(GeyserSession session, ClientboundMapItemDataPacket packet) {
@@ -60,15 +80,7 @@ public class JavaMapItemDataTranslator extends PacketTranslator<ClientboundMapIt
             mapItemDataPacket.setWidth(data.getColumns());
             mapItemDataPacket.setHeight(data.getRows());
 
-            // Every int entry is an ARGB color
-            int[] colors = new int[data.getData().length];
-
-            int idx = 0;
-            for (byte colorId : data.getData()) {
-                colors[idx++] = MapColor.fromId(colorId & 0xFF).getARGB();
-            }
-
-            mapItemDataPacket.setColors(colors);
+            mapItemDataPacket.setColors(getColors(data.getData()));
         }
 
         // Bedrock needs an entity id to display an icon
@@ -88,4 +100,37 @@ public class JavaMapItemDataTranslator extends PacketTranslator<ClientboundMapIt
             session.getUpstream().queuePostStartGamePacket(mapItemDataPacket);
         }
     }
+
+    private static int[] getColors(byte[] colorIds) {
+        MapColorsKey key = new MapColorsKey(colorIds);
+        int[] colors = TRANSLATED_COLORS.getIfPresent(key);
+        if (colors == null) {
+            // Every int entry is an ARGB color
+            colors = new int[colorIds.length];
+            for (int i = 0; i < colorIds.length; i++) {
+                colors[i] = ARGB_BY_ID[colorIds[i] & 0xFF];
+            }
+            TRANSLATED_COLORS.put(key, colors);
+        }
+        return colors;
+    }
+
+    /**
+     * Compares the Java color IDs by content.
+     */
+    private record MapColorsKey(byte[] colorIds, int hash) {
+        MapColorsKey(byte[] colorIds) {
+            this(colorIds, Arrays.hashCode(colorIds));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof MapColorsKey other && hash == other.hash && Arrays.equals(colorIds, other.colorIds));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
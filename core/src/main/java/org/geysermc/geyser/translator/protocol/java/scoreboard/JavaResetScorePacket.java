@@ -27,7 +27,6 @@ package org.geysermc.geyser.translator.protocol.java.scoreboard;
 
 import org.geysermc.geyser.scoreboard.Objective;
 import org.geysermc.geyser.scoreboard.Scoreboard;
-import org.geysermc.geyser.scoreboard.ScoreboardUpdater;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.cache.WorldCache;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
@@ -68,10 +67,8 @@ public class JavaResetScorePacket extends PacketTranslator<ClientboundResetScore
             }
         }
 
-        // ScoreboardUpdater will handle it for us if the packets per second
+        // Updates are deferred and batched on the event loop if the packets per second
         // (for score and team packets) is higher than the first threshold
-        if (pps < ScoreboardUpdater.FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
-            scoreboard.onUpdate();
-        }
+        worldCache.updateScoreboard(pps);
     }
 }
@@ -33,7 +33,6 @@ import org.geysermc.geyser.GeyserLogger;
 import org.geysermc.geyser.entity.type.player.PlayerEntity;
 import org.geysermc.geyser.scoreboard.Objective;
 import org.geysermc.geyser.scoreboard.Scoreboard;
-import org.geysermc.geyser.scoreboard.ScoreboardUpdater;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.cache.WorldCache;
 import org.geysermc.geyser.text.GeyserLocale;
@@ -74,11 +73,9 @@ public class JavaSetScoreTranslator extends PacketTranslator<ClientboundSetScore
             setBelowName(session, objective, packet.getOwner());
         }
 
-        // ScoreboardUpdater will handle it for us if the packets per second
+        // Updates are deferred and batched on the event loop if the packets per second
         // (for score and team packets) is higher than the first threshold
-        if (pps < ScoreboardUpdater.FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
-            scoreboard.onUpdate();
-        }
+        worldCache.updateScoreboard(pps);
     }
 
     /**
@@ -152,6 +152,19 @@ public class MessageTranslator {
      * @return Parsed and formatted message for bedrock
      */
     public static String convertMessage(Component message, String locale) {
+        if (!TranslatedMessageCache.isEnabled()) {
+            return convertMessage0(message, locale);
+        }
+
+        String translated = TranslatedMessageCache.get(message, locale);
+        if (translated == null) {
+            translated = convertMessage0(message, locale);
+            TranslatedMessageCache.put(message, locale, translated);
+        }
+        return translated;
+    }
+
+    private static String convertMessage0(Component message, String locale) {
         try {
             // Translate any components that require it
             message = RENDERER.render(message, locale);
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.translator.text;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.text.MinecraftLocale;
+
+/**
+ * A cache of messages translated by {@link MessageTranslator#convertMessage(Component, String)}, shared between all sessions.
+ * Components are immutable, so the same sidebar lines, nametags and item names that are sent to many players
+ * only have to be rendered and serialized once per locale.
+ */
+public final class TranslatedMessageCache {
+    private static final Cache<Key, String> CACHE;
+
+    static {
+        GeyserImpl geyser = GeyserImpl.getInstance();
+        // Messages can also be translated without a running Geyser instance, for example in tests
+        int maximumSize = geyser == null ? 0 : geyser.getConfig().getMessageCacheSize();
+        if (maximumSize > 0) {
+            CACHE = CacheBuilder.newBuilder()
+                    .maximumSize(maximumSize)
+                    .recordStats()
+                    .build();
+        } else {
+            CACHE = null;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return CACHE != null;
+    }
+
+    public static @Nullable String get(Component message, String locale) {
+        return CACHE.getIfPresent(new Key(message, locale));
+    }
+
+    public static void put(Component message, String locale, String translated) {
+        // Until a locale has been downloaded, messages are translated using the default locale instead.
+        // Don't keep those around, or the player would never see their own language.
+        if (MinecraftLocale.isLocaleLoaded(locale)) {
+            CACHE.put(new Key(message, locale), translated);
+        }
+    }
+
+    /**
+     * @return the number of cached messages, or 0 if the cache is disabled
+     */
+    public static long size() {
+        return CACHE == null ? 0 : CACHE.size();
+    }
+
+    /**
+     * @return the hit and miss counts of the cache since startup, or null if the cache is disabled
+     */
+    public static @Nullable CacheStats stats() {
+        return CACHE == null ? null : CACHE.stats();
+    }
+
+    private TranslatedMessageCache() {
+    }
+
+    private record Key(Component message, String locale) {
+    }
+}
@@ -26,7 +26,6 @@
 package org.geysermc.geyser.util;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.ints.IntLists;
 import lombok.experimental.UtilityClass;
@@ -36,6 +35,7 @@ import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.protocol.bedrock.packet.LevelChunkPacket;
 import org.cloudburstmc.protocol.bedrock.packet.NetworkChunkPublisherUpdatePacket;
 import org.cloudburstmc.protocol.bedrock.packet.UpdateBlockPacket;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateSubChunkBlocksPacket;
 import org.geysermc.geyser.entity.type.ItemFrameEntity;
 import org.geysermc.geyser.level.BedrockDimension;
 import org.geysermc.geyser.level.JavaDimension;
@@ -47,6 +47,10 @@ import org.geysermc.geyser.level.chunk.bitarray.SingletonBitArray;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.text.GeyserLocale;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 @UtilityClass
 public class ChunkUtils {
 
@@ -56,6 +60,11 @@ public class ChunkUtils {
 
     public static final int EMPTY_CHUNK_SECTION_SIZE;
 
+    /**
+     * Chunk payloads that are identical for every session, such as empty chunks for each Bedrock dimension.
+     */
+    private static final Map<Object, ByteBuf> CONSTANT_PAYLOADS = new ConcurrentHashMap<>();
+
     static {
         EMPTY_BLOCK_STORAGE = new BlockStorage[0];
 
@@ -148,35 +157,60 @@ public class ChunkUtils {
         blockState.block().updateBlock(session, blockState, position);
     }
 
-    public static void sendEmptyChunk(GeyserSession session, int chunkX, int chunkZ, boolean forceUpdate) {
-        BedrockDimension bedrockDimension = session.getChunkCache().getBedrockDimension();
-        int bedrockSubChunkCount = bedrockDimension.height() >> 4;
-
-        byte[] payload;
-        // Allocate output buffer
-        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer(ChunkUtils.EMPTY_BIOME_DATA.length * bedrockSubChunkCount + 1); // Consists only of biome data and border blocks
-        try {
-            byteBuf.writeBytes(EMPTY_BIOME_DATA);
-            for (int i = 1; i < bedrockSubChunkCount; i++) {
-                byteBuf.writeByte((127 << 1) | 1);
-            }
+    /**
+     * Adds a block update to a sub-chunk block update, and to the chunk cache. Blocks that need more than a layer
+     * update, or that would interfere with an item frame, are left out and should be sent using {@link #updateBlock(GeyserSession, int, Vector3i)}.
+     *
+     * @return whether the block was added to the packet
+     */
+    public static boolean updateBlockBatched(GeyserSession session, BlockState blockState, Vector3i position, UpdateSubChunkBlocksPacket packet) {
+        if (ItemFrameEntity.getItemFrameEntity(session, position) != null) {
+            return false;
+        }
+        if (!blockState.block().updateBlockBatched(session, blockState, position, packet)) {
+            return false;
+        }
+        session.getChunkCache().updateBlock(position.getX(), position.getY(), position.getZ(), blockState.javaId());
+        return true;
+    }
 
-            byteBuf.writeByte(0); // Border blocks - Edu edition only
+    /**
+     * Gets a payload for chunk data that never changes, building it the first time it is requested.
+     * The returned buffer is a read-only view of a shared buffer; it can be sent as-is and never needs to be released.
+     *
+     * @param key any object identifying this payload, with a sensible {@link Object#equals(Object)}
+     * @param factory creates the payload if it is not yet cached
+     */
+    public static ByteBuf getConstantPayload(Object key, Supplier<byte[]> factory) {
+        ByteBuf payload = CONSTANT_PAYLOADS.computeIfAbsent(key, k ->
+                Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(factory.get()).asReadOnly()));
+        return payload.duplicate();
+    }
 
-            payload = new byte[byteBuf.readableBytes()];
-            byteBuf.readBytes(payload);
+    private static byte[] createEmptyChunkPayload(BedrockDimension bedrockDimension) {
+        int bedrockSubChunkCount = bedrockDimension.height() >> 4;
 
-            LevelChunkPacket data = new LevelChunkPacket();
-            data.setDimension(DimensionUtils.javaToBedrock(session.getChunkCache().getBedrockDimension()));
-            data.setChunkX(chunkX);
-            data.setChunkZ(chunkZ);
-            data.setSubChunksLength(0);
-            data.setData(Unpooled.wrappedBuffer(payload));
-            data.setCachingEnabled(false);
-            session.sendUpstreamPacket(data);
-        } finally {
-            byteBuf.release();
+        // Consists only of biome data and border blocks
+        byte[] payload = new byte[ChunkUtils.EMPTY_BIOME_DATA.length + bedrockSubChunkCount];
+        System.arraycopy(EMPTY_BIOME_DATA, 0, payload, 0, EMPTY_BIOME_DATA.length);
+        for (int i = 1; i < bedrockSubChunkCount; i++) {
+            payload[EMPTY_BIOME_DATA.length + i - 1] = (byte) ((127 << 1) | 1);
         }
+        payload[payload.length - 1] = 0; // Border blocks - Edu edition only
+        return payload;
+    }
+
+    public static void sendEmptyChunk(GeyserSession session, int chunkX, int chunkZ, boolean forceUpdate) {
+        BedrockDimension bedrockDimension = session.getChunkCache().getBedrockDimension();
+
+        LevelChunkPacket data = new LevelChunkPacket();
+        data.setDimension(DimensionUtils.javaToBedrock(bedrockDimension));
+        data.setChunkX(chunkX);
+        data.setChunkZ(chunkZ);
+        data.setSubChunksLength(0);
+        data.setData(getConstantPayload(bedrockDimension, () -> createEmptyChunkPayload(bedrockDimension)));
+        data.setCachingEnabled(false);
+        session.sendUpstreamPacket(data);
 
         if (forceUpdate) {
             Vector3i pos = Vector3i.from(chunkX << 4, 80, chunkZ << 4);
@@ -78,6 +78,10 @@ public class InventoryUtils {
     public static final ItemStack REFRESH_ITEM = new ItemStack(1, 127, new DataComponents(new HashMap<>()));
 
     public static void openInventory(GeyserSession session, Inventory inventory) {
+        if (inventory != session.getPlayerInventory()) {
+            // The player's slots are sent by the container's translator from now on
+            session.getPlayerInventory().clearSentItems();
+        }
         session.setOpenInventory(inventory);
         if (session.isClosingInventory() || !session.getUpstream().isInitialized()) {
             // Wait for close confirmation from client before opening the new inventory.
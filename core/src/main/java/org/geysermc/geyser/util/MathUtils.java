@@ -28,6 +28,32 @@ package org.geysermc.geyser.util;
 public class MathUtils {
     public static final double SQRT_OF_TWO = Math.sqrt(2);
 
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12};
+
+    /**
+     * Converts a float to the double closest to the float's shortest decimal representation, which is what
+     * {@code Double.parseDouble(Float.toString(value))} returns, without building a string.
+     * Casting a float to a double instead keeps the float's binary error; for example, {@code 0.1f} becomes {@code 0.10000000149011612}.
+     *
+     * @param value the float to convert
+     * @return the double closest to the shortest decimal that represents the float
+     */
+    public static double floatToDecimalDouble(float value) {
+        float abs = Math.abs(value);
+        if (abs >= 1.0e-3f && abs < 1.0e7f) {
+            // Any float in this range can be represented in at most 12 decimal places
+            double exact = value;
+            for (double powerOfTen : POWERS_OF_TEN) {
+                // Exact, since a float has at most 24 significant bits and 10^12 needs 28 more
+                double candidate = Math.rint(exact * powerOfTen) / powerOfTen;
+                if ((float) candidate == value) {
+                    return candidate;
+                }
+            }
+        }
+        return Double.parseDouble(Float.toString(value));
+    }
+
     /**
      * Wrap the given float degrees to be between -180.0 and 180.0.
      * 
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactChunkSectionTest {
+
+    @Test
+    public void testFromMatchesJavaSection() {
+        Random random = new Random(0);
+        // Singleton, indirect palettes of several sizes, and a global palette
+        for (int stateCount : new int[] {1, 2, 3, 16, 17, 200, 300}) {
+            DataPalette javaSection = randomSection(random, stateCount);
+            CompactChunkSection section = CompactChunkSection.from(javaSection);
+            assertSameBlocks(javaSection, section);
+        }
+    }
+
+    @Test
+    public void testEqualSectionsAreShared() {
+        DataPalette javaSection = randomSection(new Random(1), 20);
+        assertSame(CompactChunkSection.from(javaSection), CompactChunkSection.from(javaSection));
+        assertSame(CompactChunkSection.ofState(5), CompactChunkSection.ofState(5));
+    }
+
+    @Test
+    public void testWithBlockDoesNotModifySharedSection() {
+        DataPalette javaSection = randomSection(new Random(2), 4);
+        CompactChunkSection shared = CompactChunkSection.from(javaSection);
+
+        // Once with a state already in the palette, once with a new one
+        CompactChunkSection updated = shared.withBlock(1, 2, 3, javaSection.get(0, 0, 0));
+        assertNotSame(shared, updated);
+        updated = shared.withBlock(1, 2, 3, 1000);
+        assertNotSame(shared, updated);
+        assertEquals(1000, updated.get(1, 2, 3));
+
+        assertSameBlocks(javaSection, shared);
+        javaSection.set(1, 2, 3, 1000);
+        assertSameBlocks(javaSection, updated);
+    }
+
+    @Test
+    public void testWithBlockUpdatesCopyInPlace() {
+        CompactChunkSection section = CompactChunkSection.ofState(0).withBlock(0, 0, 0, 1);
+        assertSame(section, section.withBlock(1, 0, 0, 1));
+        assertSame(section, section.withBlock(1, 0, 0, 0));
+    }
+
+    @Test
+    public void testPaletteGrowth() {
+        DataPalette javaSection = DataPalette.createForChunk();
+        CompactChunkSection section = CompactChunkSection.ofState(0);
+        // Every block gets its own state, so the palette has to grow through every size
+        int state = 1;
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    section = section.withBlock(x, y, z, state);
+                    javaSection.set(x, y, z, state);
+                    state++;
+                }
+            }
+        }
+        assertSameBlocks(javaSection, section);
+    }
+
+    @Test
+    public void testUnusedStatesAreDropped() {
+        // Two states, so one bit per block
+        CompactChunkSection section = CompactChunkSection.ofState(0).withBlock(0, 0, 0, 1);
+        long twoStateBytes = section.retainedBytes();
+
+        // State 1 is no longer used, so adding a third state should not need a second bit
+        section = section.withBlock(0, 0, 0, 0);
+        section = section.withBlock(5, 5, 5, 2);
+        assertEquals(twoStateBytes, section.retainedBytes());
+        assertEquals(2, section.get(5, 5, 5));
+        assertEquals(0, section.get(0, 0, 0));
+
+        // Replacing the only block with a state with a new state also counts as unused
+        section = section.withBlock(5, 5, 5, 3);
+        assertEquals(twoStateBytes, section.retainedBytes());
+        assertEquals(3, section.get(5, 5, 5));
+        assertEquals(0, section.get(15, 15, 15));
+    }
+
+    @Test
+    public void testGeyserChunkKeepsEmptySections() {
+        DataPalette javaSection = randomSection(new Random(3), 10);
+        GeyserChunk chunk = GeyserChunk.from(new DataPalette[] {null, javaSection, null});
+        assertNull(chunk.sections()[0]);
+        assertNull(chunk.sections()[2]);
+        assertSameBlocks(javaSection, chunk.sections()[1]);
+    }
+
+    private static DataPalette randomSection(Random random, int stateCount) {
+        DataPalette section = DataPalette.createForChunk();
+        int firstState = random.nextInt(1000);
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    section.set(x, y, z, firstState + random.nextInt(stateCount));
+                }
+            }
+        }
+        return section;
+    }
+
+    private static void assertSameBlocks(DataPalette expected, CompactChunkSection actual) {
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    assertEquals(expected.get(x, y, z), actual.get(x, y, z), "Block at " + x + " " + y + " " + z);
+                }
+            }
+        }
+    }
+}
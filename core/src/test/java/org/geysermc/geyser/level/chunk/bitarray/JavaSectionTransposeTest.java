@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk.bitarray;
+
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JavaSectionTransposeTest {
+    private static final int MAX_JAVA_BITS = 15;
+
+    @Test
+    public void testMatchesPerBlockConversion() {
+        Random random = new Random(0);
+        for (int javaBits = 1; javaBits <= MAX_JAVA_BITS; javaBits++) {
+            for (BitArrayVersion version : BitArrayVersion.values()) {
+                if (version == BitArrayVersion.V0) {
+                    // Singleton arrays have no words to transpose into
+                    continue;
+                }
+                int maxValue = (1 << Math.min(javaBits, version.bits)) - 1;
+                BitStorage storage = new BitStorage(javaBits, JavaSectionTranspose.SECTION_SIZE);
+                for (int i = 0; i < JavaSectionTranspose.SECTION_SIZE; i++) {
+                    storage.set(i, random.nextInt(maxValue + 1));
+                }
+                // Make sure the largest value is in there at least once
+                storage.set(random.nextInt(JavaSectionTranspose.SECTION_SIZE), maxValue);
+
+                BitArray expected = version.createArray(JavaSectionTranspose.SECTION_SIZE);
+                for (int y = 0; y < 16; y++) {
+                    for (int z = 0; z < 16; z++) {
+                        for (int x = 0; x < 16; x++) {
+                            expected.set((x << 8) | (z << 4) | y, storage.get((y << 8) | (z << 4) | x));
+                        }
+                    }
+                }
+
+                BitArray actual = version.createArray(JavaSectionTranspose.SECTION_SIZE);
+                actual.setAllFromJava(storage);
+
+                for (int i = 0; i < JavaSectionTranspose.SECTION_SIZE; i++) {
+                    assertEquals(expected.get(i), actual.get(i), "Java bits " + javaBits + ", " + version + ", index " + i);
+                }
+            }
+        }
+    }
+}
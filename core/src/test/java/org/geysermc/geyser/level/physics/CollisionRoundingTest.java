@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.physics;
+
+import org.geysermc.geyser.util.MathUtils;
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the allocation-free rounding collision checks use gives the same results as the string-based
+ * rounding it replaced.
+ */
+public class CollisionRoundingTest {
+    private static final int SAMPLES = 1_000_000;
+
+    private static float sample(Random random, int i) {
+        return switch (i % 3) {
+            case 0 -> (random.nextFloat() - 0.5f) * 640f; // Coordinates near spawn
+            case 1 -> Math.round(random.nextFloat() * 320000f) / 1000f; // Positions on a 0.001 grid
+            default -> Float.intBitsToFloat(random.nextInt()); // Every other float
+        };
+    }
+
+    @Test
+    public void testFloatToDecimalDouble() {
+        Random random = new Random(0);
+        for (int i = 0; i < SAMPLES; i++) {
+            float value = sample(random, i);
+            if (Float.isNaN(value) || Float.isInfinite(value)) {
+                continue;
+            }
+            double expected = Double.parseDouble(Float.toString(value));
+            assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(MathUtils.floatToDecimalDouble(value)),
+                () -> "floatToDecimalDouble(" + value + ") does not match Float.toString");
+        }
+    }
+
+    @Test
+    public void testTrimY() {
+        DecimalFormat decimalFormat = new DecimalFormat("#.#####", new DecimalFormatSymbols(Locale.ENGLISH));
+        Random random = new Random(0);
+        for (int i = 0; i < SAMPLES; i++) {
+            float value = sample(random, i);
+            if (Float.isNaN(value) || Float.isInfinite(value)) {
+                continue;
+            }
+            double y = Double.parseDouble(Float.toString(value));
+            if (Math.abs(y) >= 1.0e7) {
+                continue;
+            }
+            double expected = Double.parseDouble(decimalFormat.format(y));
+            // Compared with == like the collision code does, so -0.0 and 0.0 count as the same
+            assertTrue(CollisionManager.trimY(y) == expected, () -> "trimY(" + y + ") does not match DecimalFormat");
+        }
+    }
+}
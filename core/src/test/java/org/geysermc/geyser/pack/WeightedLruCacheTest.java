@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.pack;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WeightedLruCacheTest {
+    private static final long MAXIMUM_WEIGHT = 256;
+
+    private static WeightedLruCache<String, Long> cache() {
+        return new WeightedLruCache<>(MAXIMUM_WEIGHT, weight -> weight);
+    }
+
+    @Test
+    public void testLargeValueStays() {
+        WeightedLruCache<String, Long> cache = cache();
+        // Guava would split the budget between segments and evict this right away
+        Long value = MAXIMUM_WEIGHT - 1;
+        assertSame(value, cache.putIfAbsent("pack", value));
+        assertSame(value, cache.get("pack"));
+        assertSame(value, cache.get("pack"));
+        assertEquals(MAXIMUM_WEIGHT - 1, cache.weight());
+    }
+
+    @Test
+    public void testTooHeavyValueIsNotStored() {
+        WeightedLruCache<String, Long> cache = cache();
+        Long value = MAXIMUM_WEIGHT + 1;
+        assertSame(value, cache.putIfAbsent("pack", value));
+        assertNull(cache.get("pack"));
+        assertEquals(0, cache.weight());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        WeightedLruCache<String, Long> cache = cache();
+        cache.putIfAbsent("a", 100L);
+        cache.putIfAbsent("b", 100L);
+        // Makes b the least recently used
+        cache.get("a");
+        cache.putIfAbsent("c", 100L);
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(200, cache.weight());
+    }
+
+    @Test
+    public void testExistingValueIsKept() {
+        WeightedLruCache<String, Long> cache = cache();
+        Long first = 10L;
+        cache.putIfAbsent("pack", first);
+        assertSame(first, cache.putIfAbsent("pack", 20L));
+        assertEquals(10, cache.weight());
+
+        cache.invalidate("pack");
+        assertNull(cache.get("pack"));
+        assertEquals(0, cache.weight());
+    }
+}